@@ -5,6 +5,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -15,15 +18,19 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.SubmitCommand;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.menu.MenuManager;
-import seedu.address.model.menu.ReadOnlyMenuManager;
+import seedu.address.model.menu.MenuManagerRegistry;
+import seedu.address.model.order.OrderHistory;
+import seedu.address.model.order.OrderJournalEntry;
 import seedu.address.model.order.OrderManager;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.model.vendor.ReadOnlyVendorManager;
@@ -33,12 +40,18 @@ import seedu.address.storage.JsonProfileManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonVendorManagerStorage;
 import seedu.address.storage.MenuItemStorage;
+import seedu.address.storage.OrderJournalFile;
 import seedu.address.storage.PresetManagerStorage;
 import seedu.address.storage.ProfileManagerStorage;
+import seedu.address.storage.ShardedVendorManagerStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StorageWriter;
+import seedu.address.storage.ThumbnailCache;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.VendorManagerStorage;
+import seedu.address.ui.FoodCard;
+import seedu.address.ui.ImageCache;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -50,6 +63,8 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 3, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    // The directory next to the single vendor data file that holds the index of vendors and their menus.
+    private static final String VENDOR_DIRECTORY_NAME = "vendors";
 
     protected Ui ui;
     protected Logic logic;
@@ -57,6 +72,25 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Runs low priority work ahead of when it is needed, such as loading menus, making thumbnails and preparing
+    // submissions.
+    private final ExecutorService warmingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "warming");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private final StorageWriter storageWriter = StorageWriter.createAsync(true);
+    private final ExecutorService presetWriteExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "preset-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private OrderJournalFile orderJournal;
+    private ThumbnailCache thumbnailCache;
+    // Saves of data that differs from its file at startup, made once the window is shown.
+    private final List<PendingSave> pendingSaves = new ArrayList<>();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing VendorManager ]===========================");
@@ -65,15 +99,25 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath(), storageWriter);
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        VendorManagerStorage vendorManagerStorage = new JsonVendorManagerStorage(userPrefs.getVendorManagerFilePath());
-        PresetManagerStorage presetManagerStorage = new JsonPresetManagerStorage(userPrefs.getOrderManagerFilePath());
+        Path vendorManagerFilePath = userPrefs.getVendorManagerFilePath();
+        JsonVendorManagerStorage singleFileVendorManagerStorage = new JsonVendorManagerStorage(vendorManagerFilePath,
+                JsonVendorManagerStorage.getDefaultSnapshotPath(vendorManagerFilePath), storageWriter);
+        VendorManagerStorage vendorManagerStorage = new ShardedVendorManagerStorage(
+                vendorManagerFilePath.resolveSibling(VENDOR_DIRECTORY_NAME)
+                        .resolve(ShardedVendorManagerStorage.DEFAULT_INDEX_FILE_NAME),
+                singleFileVendorManagerStorage, storageWriter);
+        PresetManagerStorage presetManagerStorage = new JsonPresetManagerStorage(userPrefs.getOrderManagerFilePath(),
+                storageWriter);
         ProfileManagerStorage profileManagerStorage = new JsonProfileManagerStorage(
-                userPrefs.getProfileManagerFilePath()
+                userPrefs.getProfileManagerFilePath(), storageWriter
         );
         storage = new StorageManager(vendorManagerStorage, userPrefsStorage, presetManagerStorage,
-                profileManagerStorage);
+                profileManagerStorage, presetWriteExecutor, storageWriter);
+        thumbnailCache = new ThumbnailCache(vendorManagerFilePath.resolveSibling(ThumbnailCache.DIRECTORY_NAME),
+                FoodCard.IMAGE_SIZE, warmingExecutor);
+        ImageCache.getInstance().setThumbnailCache(thumbnailCache);
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
@@ -90,23 +134,19 @@ public class MainApp extends Application {
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyVendorManager> vendorManagerOptional;
-        List<Optional<ReadOnlyMenuManager>> menuManagersOptional;
         ReadOnlyVendorManager initialData;
-        List<MenuManager> initialMenuManagers = new ArrayList<>();
-        OrderManager initialOrderManager = new OrderManager();
+        boolean isVendorManagerSaved = false;
+        List<Supplier<MenuManager>> menuManagerSources = new ArrayList<>();
+        OrderManager initialOrderManager = new OrderManager(
+                new OrderHistory(userPrefs.getOrderHistoryDepth(), userPrefs.getOrderHistoryBudget()));
         try {
             vendorManagerOptional = storage.readVendorManager();
             if (vendorManagerOptional.isEmpty()) {
                 logger.info("Data file not found. Will be starting with a sample VendorManager");
             }
             initialData = vendorManagerOptional.orElseGet(SampleDataUtil::getSampleVendorManager);
-            menuManagersOptional = new MenuItemStorage().readMenuManagers(initialData.getVendorList());
-            menuManagersOptional.forEach(x -> x.ifPresentOrElse(y ->
-                    initialMenuManagers.add(new MenuManager(y)), () -> {
-                    logger.info("Data file not found. Will be starting with an empty menu");
-                    initialMenuManagers.add(new MenuManager());
-                }
-            ));
+            isVendorManagerSaved = vendorManagerOptional.isPresent();
+            menuManagerSources = new MenuItemStorage().readMenuManagerSources(initialData.getVendorList());
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty VendorManager");
             initialData = new VendorManager();
@@ -115,22 +155,43 @@ public class MainApp extends Application {
             initialData = new VendorManager();
             assert model != null;
         }
-        try {
-            storage.saveVendorManager(initialData);
-        } catch (IOException e) {
-            logger.warning("Something unexpected occurred!");
-            assert false;
+        if (!isVendorManagerSaved) {
+            ReadOnlyVendorManager unsavedData = initialData;
+            pendingSaves.add(() -> storage.saveVendorManager(unsavedData));
         }
+        if (!FileUtil.isFileExists(storage.getPresetManagerFilePath())) {
+            pendingSaves.add(() -> storage.savePresetManager(new ArrayList<>(new ArrayList<>())));
+        }
+
+        MenuManagerRegistry menuManagers = new MenuManagerRegistry(menuManagerSources, warmingExecutor);
+        orderJournal = new OrderJournalFile(
+                userPrefs.getVendorManagerFilePath().resolveSibling(OrderJournalFile.FILE_NAME));
+        recoverOrder(initialOrderManager, initialData.getVendorList().size());
+        return new ModelManager(initialData, userPrefs, menuManagers, initialOrderManager);
+    }
+
+    /**
+     * Replays the order journal into {@code orderManager}, which must be empty, and journals its later changes.
+     * The order is started afresh if the journal cannot be read, or does not fit the {@code vendorCount} vendors.
+     */
+    private void recoverOrder(OrderManager orderManager, int vendorCount) {
         try {
-            if (!FileUtil.isFileExists(storage.getPresetManagerFilePath())) {
-                storage.savePresetManager(new ArrayList<>(new ArrayList<>()));
+            List<OrderJournalEntry> entries = orderJournal.read();
+            orderManager.replay(entries);
+            if (orderManager.getVendorIndex() >= vendorCount) {
+                throw new IllegalArgumentException("Journalled vendor no longer exists");
             }
-        } catch (IOException e) {
-            logger.warning("Something unexpected occurred!");
-            assert false;
+            if (!entries.isEmpty()) {
+                logger.info("Recovered an order of " + orderManager.getOrderItemList().size() + " items from "
+                        + orderJournal.getFilePath());
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Order journal could not be replayed. Will be starting with an empty order "
+                    + StringUtil.getDetails(e));
+            orderManager.replay(List.of(OrderJournalEntry.reset(), OrderJournalEntry.vendor(-1)));
+            orderJournal.compact(orderManager.toJournalEntries());
         }
-
-        return new ModelManager(initialData, userPrefs, initialMenuManagers, initialOrderManager);
+        orderManager.setJournal(orderJournal);
     }
 
     private void initLogging(Config config) {
@@ -164,11 +225,13 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
+        JsonUtil.setCompactOutput(initializedConfig.isCompactJson());
+
         //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        if (!JsonUtil.isJsonFileUpToDate(initializedConfig, configFilePathUsed)) {
+            Config unsavedConfig = initializedConfig;
+            Path unsavedConfigFilePath = configFilePathUsed;
+            pendingSaves.add(() -> storageWriter.write(unsavedConfigFilePath, JsonUtil.toJsonBytes(unsavedConfig)));
         }
         return initializedConfig;
     }
@@ -196,10 +259,9 @@ public class MainApp extends Application {
         }
 
         //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        if (!JsonUtil.isJsonFileUpToDate(initializedPrefs, prefsFilePath)) {
+            UserPrefs unsavedPrefs = initializedPrefs;
+            pendingSaves.add(() -> storage.saveUserPrefs(unsavedPrefs));
         }
 
         return initializedPrefs;
@@ -209,15 +271,58 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting VendorManager " + MainApp.VERSION);
         ui.start(primaryStage);
+        savePending();
+        warmingExecutor.execute(thumbnailCache::warmUp);
+        warmingExecutor.execute(() -> SubmitCommand.warmUp(storage));
+    }
+
+    /**
+     * Saves the data that differed from its file at startup. The data is only serialized here, and written to
+     * the files on the storage I/O thread.
+     */
+    private void savePending() {
+        for (PendingSave pendingSave : pendingSaves) {
+            try {
+                pendingSave.save();
+            } catch (IOException e) {
+                logger.warning("Failed to save data file at startup : " + StringUtil.getDetails(e));
+            }
+        }
+        pendingSaves.clear();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Supper Strikers ] =============================");
+        warmingExecutor.shutdownNow();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.getPresetRepository().flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save presets " + StringUtil.getDetails(e));
+        }
+        presetWriteExecutor.shutdown();
+        try {
+            orderJournal.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save the order journal " + StringUtil.getDetails(e));
+        }
+        try {
+            storageWriter.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data files " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves a piece of data that differed from its file at startup.
+     */
+    @FunctionalInterface
+    private interface PendingSave {
+        void save() throws IOException;
     }
 }
@@ -33,6 +33,7 @@ public class Messages {
     public static final String MESSAGE_ORDERITEM_QUANTITY_EXCEED = "Cannot have more than 100 of the an order item.";
     public static final String MESSAGE_EMPTY_PROFILE = "Please create a profile first before using the submit command.";
 
+    public static final String MESSAGE_ORDER_HISTORY_FOOTPRINT = "Undo history is using about %.1f KB.";
     public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command. The following commands matches the "
             + "prefix: %s";
     public static final String MESSAGE_PRESET_SAVE_NO_ORDER = "You have not added any items to your order to be saved!";
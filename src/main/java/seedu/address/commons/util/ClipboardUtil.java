@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.HeadlessException;
+import java.awt.Toolkit;
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.StringSelection;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Copies text to the system clipboard.
+ * The clipboard is reached through the AWT toolkit, which takes a long time to start, so it is only looked up
+ * once. {@link #warmUp()} looks it up ahead of the first copy.
+ */
+public class ClipboardUtil {
+
+    private static final Logger logger = LogsCenter.getLogger(ClipboardUtil.class);
+
+    // Guarded by ClipboardUtil.class.
+    private static Clipboard clipboard;
+    private static boolean isLookedUp;
+
+    /**
+     * Looks up the system clipboard, so that later copies do not have to.
+     */
+    public static void warmUp() {
+        getClipboard();
+    }
+
+    /**
+     * Copies {@code text} to the system clipboard. Returns false if there is no system clipboard to copy to.
+     */
+    public static boolean copy(String text) {
+        requireNonNull(text);
+        Clipboard systemClipboard = getClipboard();
+        if (systemClipboard == null) {
+            return false;
+        }
+        try {
+            systemClipboard.setContents(new StringSelection(text), null);
+            return true;
+        } catch (IllegalStateException e) {
+            logger.warning("Failed to copy to the clipboard " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    private static synchronized Clipboard getClipboard() {
+        if (!isLookedUp) {
+            try {
+                clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
+            } catch (HeadlessException e) {
+                logger.info("There is no system clipboard to copy to");
+            }
+            isLookedUp = true;
+        }
+        return clipboard;
+    }
+}
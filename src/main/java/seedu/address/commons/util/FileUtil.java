@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 /**
  * Writes and reads files
@@ -12,6 +19,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +80,72 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns true if {@code file} exists and holds exactly {@code content}.
+     */
+    public static boolean hasContent(Path file, byte[] content) throws IOException {
+        return Files.isRegularFile(file) && Files.size(file) == content.length
+                && Arrays.equals(Files.readAllBytes(file), content);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFileAtomically(file, content.getBytes(CHARSET), false);
+    }
+
+    /**
+     * Replaces the contents of a file with {@code content} by writing them to a temporary file in the same
+     * directory and renaming it over the file, so that a crash midway leaves either the old or the new contents.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * @param isForced whether to force the new contents to the storage device before the rename.
+     */
+    public static void writeToFileAtomically(Path file, byte[] content, boolean isForced) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content), isForced);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, byte[], boolean)}, but the new contents are streamed
+     * into the temporary file by {@code contentWriter} instead of being held in memory first.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean isForced)
+            throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -1,20 +1,35 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +37,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -32,6 +48,7 @@ public class JsonUtil {
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
@@ -39,13 +56,65 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Readers and writers are immutable and thread-safe, but costly to configure, so one is kept for each type.
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> prettyWriters = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> compactWriters = new ConcurrentHashMap<>();
+
+    private static volatile boolean isCompactOutput = false;
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, out -> writeJson(out, objectToSerialize, isCompactOutput), false);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return readerFor(classOfObjectToDeserialize).readValue(in);
+        }
+    }
+
+    /**
+     * Sets whether JSON data is written without any indentation or line breaks, which makes it smaller and
+     * faster to write and read, but hard to edit by hand. JSON data is indented by default.
+     */
+    public static void setCompactOutput(boolean isCompact) {
+        isCompactOutput = isCompact;
+    }
+
+    public static boolean isCompactOutput() {
+        return isCompactOutput;
+    }
+
+    private static ObjectReader readerFor(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    private static ObjectWriter writerFor(Class<?> type, boolean isCompact) {
+        return isCompact
+                ? compactWriters.computeIfAbsent(type, objectMapper::writerFor)
+                : prettyWriters.computeIfAbsent(type, unused -> objectMapper.writerFor(type)
+                        .withDefaultPrettyPrinter());
+    }
+
+    /**
+     * Writes {@code instance} to {@code out} as JSON data encoded in UTF-8, followed by a newline.
+     */
+    private static void writeJson(OutputStream out, Object instance, boolean isCompact) throws IOException {
+        writerFor(instance.getClass(), isCompact).writeValue(out, instance);
+        out.write('\n');
+    }
+
+    private static byte[] toJsonBytes(Object instance, boolean isCompact) throws JsonProcessingException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writeJson(out, instance, isCompact);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory does not fail", e);
+        }
+        return out.toByteArray();
     }
 
     /**
@@ -76,6 +145,77 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array in the top-level field {@code fieldName} of the given file one at a time,
+     * passing each to {@code elementHandler} before the next one is read, so that only one element is held in
+     * memory at once. Other fields are skipped.
+     * Returns false if the file is not found.
+     * @param filePath cannot be null.
+     * @param elementClass each array element has to correspond to the structure in the class given here.
+     * @throws DataConversionException if the file format is not as expected, or it has no such array field.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element. No further elements are read.
+     */
+    public static <T> boolean readJsonArrayField(Path filePath, String fieldName, Class<T> elementClass,
+            JsonElementHandler<? super T> elementHandler) throws DataConversionException, IllegalValueException {
+        return readJsonArrayField(filePath, fieldName, elementClass, elementHandler, Collections.emptyMap());
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayField(Path, String, Class, JsonElementHandler)}, except that each other
+     * top-level field named in {@code fieldHandlers} is passed to its handler when it is read, instead of being
+     * skipped. Such fields should be small, as each is held in memory as a whole.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element, or one of {@code fieldHandlers}
+     *     rejects its field. Nothing further is read.
+     */
+    public static <T> boolean readJsonArrayField(Path filePath, String fieldName, Class<T> elementClass,
+            JsonElementHandler<? super T> elementHandler, Map<String, JsonElementHandler<JsonNode>> fieldHandlers)
+            throws DataConversionException, IllegalValueException {
+        requireAllNonNull(filePath, fieldName, elementClass, elementHandler, fieldHandlers);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            boolean isArrayFound = false;
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonElementHandler<JsonNode> fieldHandler = fieldHandlers.get(parser.getCurrentName());
+                if (fieldHandler != null) {
+                    parser.nextToken();
+                    fieldHandler.handle(objectMapper.readTree(parser));
+                    continue;
+                }
+                if (!fieldName.equals(parser.getCurrentName())) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                    continue;
+                }
+                expectToken(parser, parser.nextToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(readerFor(elementClass).readValue(parser));
+                }
+                isArrayFound = true;
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+            if (!isArrayFound) {
+                throw new JsonParseException(parser, "Missing array field " + fieldName);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -91,13 +231,40 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns true if the file at {@code filePath} already holds exactly what {@link #saveJsonFile} would write
+     * for {@code jsonFile}, so that saving it again would change nothing.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     */
+    public static <T> boolean isJsonFileUpToDate(T jsonFile, Path filePath) {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        try {
+            return FileUtil.hasContent(filePath, toJsonBytes(jsonFile));
+        } catch (IOException e) {
+            logger.fine("Could not compare " + filePath + " with its data: " + e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
      * @return The instance of T with the specified values in the JSON string
      */
     public static <T> T fromJsonString(String json, Class<T> instanceClass) throws IOException {
-        return objectMapper.readValue(json, instanceClass);
+        return readerFor(instanceClass).readValue(json);
+    }
+
+    /**
+     * Converts JSON data encoded in UTF-8 to an instance of a class
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON data
+     */
+    public static <T> T fromJsonBytes(byte[] json, Class<T> instanceClass) throws IOException {
+        return readerFor(instanceClass).readValue(json);
     }
 
     /**
@@ -107,7 +274,37 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance) + "\n";
+        return new String(toJsonBytes(instance), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Converts a given instance of a class into a single line of JSON data, ending with a newline and encoded in
+     * UTF-8, so that many instances can be appended to the same file and read back line by line.
+     */
+    public static <T> byte[] toJsonLine(T instance) throws JsonProcessingException {
+        return toJsonBytes(instance, true);
+    }
+
+    /**
+     * Handles each element, or field, read by {@link #readJsonArrayField}.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        /**
+         * Handles the next element of the array.
+         * @throws IllegalValueException if the element violates any data constraints.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data representation, encoded in UTF-8
+     * @param instance The T object to be converted into JSON
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in bytes
+     */
+    public static <T> byte[] toJsonBytes(T instance) throws JsonProcessingException {
+        return toJsonBytes(instance, isCompactOutput);
     }
 
     /**
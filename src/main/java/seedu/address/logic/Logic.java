@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -42,6 +43,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of foods */
     ObservableList<OrderItem> getFilteredOrderItemList();
 
+    /** Returns the total cost of the order in cents, updated whenever the order changes */
+    ReadOnlyLongProperty getOrderTotalCentsProperty();
+
     /**
      * Returns the user prefs' address book file path.
      */
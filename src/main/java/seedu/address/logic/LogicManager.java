@@ -1,8 +1,10 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -23,6 +25,7 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not load user data from file.";
+    public static final String FILE_OPS_SAVE_ERROR_MESSAGE = "Could not save data to file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -46,7 +49,19 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = supperStrikersParser.parseCommand(commandText);
 
-        commandResult = command.execute(model, storage);
+        // The order list is shown changing once per command, however many times the command changes it.
+        model.beginChanges();
+        try {
+            commandResult = command.execute(model, storage);
+        } finally {
+            model.endChanges();
+        }
+
+        try {
+            storage.checkBackgroundSaves();
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_SAVE_ERROR_MESSAGE + ioe.getMessage(), ioe);
+        }
 
         return commandResult;
     }
@@ -71,6 +86,11 @@ public class LogicManager implements Logic {
         return model.getObservableOrderItemList();
     }
 
+    @Override
+    public ReadOnlyLongProperty getOrderTotalCentsProperty() {
+        return model.getOrderTotalCentsProperty();
+    }
+
     @Override
     public boolean isSelected() {
         return model.getVendorIndex() != -1;
@@ -39,7 +39,7 @@ public class FindCommand extends Command {
             throw new CommandException(Messages.MESSAGE_VENDOR_NOT_SELECTED);
         }
 
-        model.updateFilteredMenuItemList(predicate);
+        model.findMenuItems(predicate.getKeywords());
         return new CommandResult(
                 String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW,
                         model.getFilteredMenuItemListSize()), false, false, false, true);
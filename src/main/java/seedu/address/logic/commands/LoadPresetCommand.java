@@ -1,7 +1,5 @@
 package seedu.address.logic.commands;
 
-import static seedu.address.logic.LogicManager.FILE_OPS_ERROR_MESSAGE;
-
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +11,7 @@ import seedu.address.model.Model;
 import seedu.address.model.order.OrderItem;
 import seedu.address.model.preset.Preset;
 import seedu.address.model.vendor.Name;
+import seedu.address.storage.PresetRepository;
 import seedu.address.storage.Storage;
 
 public class LoadPresetCommand extends PresetCommand {
@@ -37,16 +36,10 @@ public class LoadPresetCommand extends PresetCommand {
         }
 
         try {
-            List<List<Preset>> allLists = storage.readPresetManager()
-                    .orElseThrow(() -> new CommandException(FILE_OPS_ERROR_MESSAGE));
-
+            PresetRepository presetRepository = storage.getPresetRepository();
             int currentIndex = model.getVendorIndex();
-            if (currentIndex >= allLists.size()) {
-                throw new CommandException(String.format(Messages.MESSAGE_PRESET_NOT_FOUND,
-                        presetName));
-            }
             if (displayAllPresets) {
-                List<Preset> vendorPresets = allLists.get(currentIndex);
+                List<Preset> vendorPresets = presetRepository.getPresets(currentIndex);
                 if (vendorPresets.isEmpty()) {
                     throw new CommandException(Messages.MESSAGE_PRESET_NO_SAVED_PRESETS);
                 }
@@ -59,10 +52,7 @@ public class LoadPresetCommand extends PresetCommand {
                 return new CommandResult(PresetCommand.MESSAGE_DISPLAY_ALL_PRESETS + removeComma,
                         false, false, true, false);
             }
-            List<OrderItem> orderItems = allLists.get(currentIndex)
-                    .stream()
-                    .filter(preset -> preset.getName().equals(presetName.toString()))
-                    .findFirst()
+            List<OrderItem> orderItems = presetRepository.getPreset(currentIndex, presetName.toString())
                     .map(Preset::getOrderItems)
                     .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_PRESET_NOT_FOUND,
                             presetName)));
@@ -39,7 +39,7 @@ public class PriceCommand extends Command {
             throw new CommandException(Messages.MESSAGE_VENDOR_NOT_SELECTED);
         }
 
-        model.updateFilteredMenuItemList(predicate);
+        model.filterMenuItemsByPrice(predicate.getMinCents(), predicate.getMaxCents());
         return new CommandResult(
                 String.format(Messages.MESSAGE_FOOD_LISTED_PRICE_CONTEXT,
                         model.getFilteredMenuItemListSize(), predicate), false, false, false, true);
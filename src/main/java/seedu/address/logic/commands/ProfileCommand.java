@@ -24,6 +24,7 @@ public class ProfileCommand extends Command {
                 + "Saves your address as '25 Lower Kent Ridge Rd, Singapore 119081' and phone number as '92030888'";
 
     public static final String MESSAGE_SUCCESS = "Profile successfully added!";
+    public static final String MESSAGE_SAVE_FAILURE = "Could not save your profile: %s";
 
     private final Address address;
     private final Phone phone;
@@ -44,7 +45,7 @@ public class ProfileCommand extends Command {
             Profile profile = new Profile(phone, address);
             storage.saveProfileManager(profile);
         } catch (IOException ie) {
-            throw new CommandException(ProfileCommand.MESSAGE_USAGE);
+            throw new CommandException(String.format(MESSAGE_SAVE_FAILURE, ie.getMessage()));
         }
 
         return new CommandResult(ProfileCommand.MESSAGE_SUCCESS);
@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the last undone change to the order.";
+
+    public static final String MESSAGE_REDO_SUCCESS = "Successfully redone last undone change.";
+    public static final String MESSAGE_REDO_EMPTY = "No undone changes left to redo.";
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+
+        if (!model.isSelected()) {
+            throw new CommandException(Messages.MESSAGE_VENDOR_NOT_SELECTED);
+        }
+
+        if (!model.canRedoOrder()) {
+            return new CommandResult(MESSAGE_REDO_EMPTY);
+        }
+        model.redoOrder();
+        return new CommandResult(MESSAGE_REDO_SUCCESS + "\n"
+                + String.format(Messages.MESSAGE_ORDER_HISTORY_FOOTPRINT, model.getOrderHistoryFootprint() / 1024.0));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return super.equals(obj);
+    }
+}
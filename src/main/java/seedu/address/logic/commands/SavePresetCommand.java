@@ -4,9 +4,7 @@ import static seedu.address.logic.LogicManager.FILE_OPS_ERROR_MESSAGE;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.IntStream;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -34,32 +32,14 @@ public class SavePresetCommand extends PresetCommand {
         }
 
         try {
-            List<List<Preset>> allLists = storage.readPresetManager()
-                    .orElseThrow(() -> new CommandException(FILE_OPS_ERROR_MESSAGE));
-            int currentIndex = model.getVendorIndex();
-            if (currentIndex >= allLists.size()) {
-                IntStream.rangeClosed(allLists.size(), currentIndex)
-                        .forEach(x -> allLists.add(new ArrayList<>()));
-            }
             // check entire menu???? whether order is valid
-            List<Preset> currentVendorPresets = allLists.get(model.getVendorIndex());
-
             Preset newPreset = new Preset(presetName.toString(),
-                    model.getObservableOrderItemList());
-
-            Optional<Preset> preset = currentVendorPresets.stream()
-                    .filter(x -> x.getName().equals(presetName.toString()))
-                    .findFirst();
-
-            String message = Messages.MESSAGE_PRESET_SAVE_SUCCESS;
-            if (preset.isPresent()) {
-                currentVendorPresets.remove(preset.get());
-                message = Messages.MESSAGE_PRESET_OVERWRITE_SUCCESS;
-            }
-
-            currentVendorPresets.add(newPreset);
+                    new ArrayList<>(model.getObservableOrderItemList()));
 
-            storage.savePresetManager(allLists);
+            boolean isOverwritten = storage.getPresetRepository().putPreset(model.getVendorIndex(), newPreset);
+            String message = isOverwritten
+                    ? Messages.MESSAGE_PRESET_OVERWRITE_SUCCESS
+                    : Messages.MESSAGE_PRESET_SAVE_SUCCESS;
 
             return new CommandResult(String.format(message, presetName), false, false, true, false);
         } catch (IOException | DataConversionException ioe) {
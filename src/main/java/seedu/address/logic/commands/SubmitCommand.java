@@ -1,16 +1,15 @@
 package seedu.address.logic.commands;
 
-import java.awt.HeadlessException;
-import java.awt.Toolkit;
-import java.awt.datatransfer.Clipboard;
-import java.awt.datatransfer.StringSelection;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ClipboardUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.order.Order;
 import seedu.address.model.order.OrderItem;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.vendor.Address;
@@ -23,16 +22,31 @@ public class SubmitCommand extends Command {
     public static final String CLIPBOARD_SUCCESS_MESSAGE = "Successfully copied to clipboard!\n";
     public static final String ESTIMATE_TOTAL_MESSAGE = "Estimated total: $%.2f\n";
 
+    private static final Logger logger = LogsCenter.getLogger(SubmitCommand.class);
+
+    /**
+     * Prepares everything a submission needs that is slow to set up the first time: the profile in
+     * {@code storage}, the system clipboard and the formatting of the order text. Meant to be run once, off the
+     * FX thread, after the app starts.
+     */
+    public static void warmUp(Storage storage) {
+        try {
+            storage.readProfileManager();
+        } catch (DataConversionException e) {
+            logger.info("Profile could not be read ahead of submission " + StringUtil.getDetails(e));
+        }
+        ClipboardUtil.warmUp();
+        String.format(ESTIMATE_TOTAL_MESSAGE, 0.0);
+    }
+
     @Override
     public CommandResult execute(Model model, Storage storage) throws CommandException {
         if (!model.isSelected()) {
             throw new CommandException(Messages.MESSAGE_VENDOR_NOT_SELECTED);
         }
-        Order order = new Order();
-        order.setOrderItems(model.getObservableOrderItemList());
-        double total = order.getTotal();
+        long totalCents = model.getOrderTotalCentsProperty().get();
 
-        if (total == 0.0) {
+        if (totalCents == 0) {
             throw new CommandException(Messages.MESSAGE_EMPTY_ORDER);
         }
 
@@ -55,26 +69,18 @@ public class SubmitCommand extends Command {
 
         StringBuilder orderText = new StringBuilder();
         orderText.append(profileText);
-        for (OrderItem orderItem: order) {
+        for (OrderItem orderItem: model.getObservableOrderItemList()) {
             orderText.append(orderItem.toOrderText());
         }
 
-        boolean copySuccess = true;
-        try {
-            StringSelection stringSelection = new StringSelection(orderText.toString());
-            Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
-            clipboard.setContents(stringSelection, null);
-        } catch (HeadlessException e) {
-            copySuccess = false;
-            e.printStackTrace();
-        }
+        boolean copySuccess = ClipboardUtil.copy(orderText.toString());
 
         StringBuilder feedback = new StringBuilder();
         if (copySuccess) {
             feedback.append(CLIPBOARD_SUCCESS_MESSAGE);
         }
         feedback.append(orderText.toString());
-        feedback.append("\n" + String.format(ESTIMATE_TOTAL_MESSAGE, order.getTotal()));
+        feedback.append("\n" + String.format(ESTIMATE_TOTAL_MESSAGE, totalCents / 100.0));
 
         return new CommandResult(feedback.toString());
     }
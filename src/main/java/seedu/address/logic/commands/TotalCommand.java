@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.order.Order;
 import seedu.address.storage.Storage;
 
 public class TotalCommand extends Command {
@@ -17,14 +16,12 @@ public class TotalCommand extends Command {
         if (!model.isSelected()) {
             throw new CommandException(Messages.MESSAGE_VENDOR_NOT_SELECTED);
         }
-        Order order = new Order();
-        order.setOrderItems(model.getObservableOrderItemList());
-        double total = order.getTotal();
+        long totalCents = model.getOrderTotalCentsProperty().get();
 
-        if (total == 0.0) {
+        if (totalCents == 0) {
             throw new CommandException(Messages.MESSAGE_EMPTY_ORDER);
         }
 
-        return new CommandResult(String.format(MESSAGE_RESULT, total));
+        return new CommandResult(String.format(MESSAGE_RESULT, totalCents / 100.0));
     }
 }
@@ -21,11 +21,12 @@ public class UndoCommand extends Command {
             throw new CommandException(Messages.MESSAGE_VENDOR_NOT_SELECTED);
         }
 
-        if (model.getOrderHistorySize() <= 1) {
+        if (!model.canUndoOrder()) {
             return new CommandResult(MESSAGE_UNDO_EMPTY);
         }
         model.undoOrder();
-        return new CommandResult(MESSAGE_UNDO_SUCCESS);
+        return new CommandResult(MESSAGE_UNDO_SUCCESS + "\n"
+                + String.format(Messages.MESSAGE_ORDER_HISTORY_FOOTPRINT, model.getOrderHistoryFootprint() / 1024.0));
     }
 
     @Override
@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps command words to values, which can be looked up by any prefix that only one command word starts with.
+ * Every node of the trie keeps the command words below it in the order they were registered, so lookups walk
+ * down one node per character of the prefix and do not allocate anything.
+ *
+ * @param <T> the type of the values registered under command words
+ */
+class CommandWordTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Registers {@code value} under {@code commandWord}, which must not be empty or registered already.
+     */
+    void register(String commandWord, T value) {
+        requireNonNull(commandWord);
+        requireNonNull(value);
+        checkArgument(!commandWord.isEmpty(), "Command word must not be empty.");
+        checkArgument(!root.words.contains(commandWord), "Command word is already registered: " + commandWord);
+
+        Node<T> node = root;
+        node.add(commandWord, value);
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.children.computeIfAbsent(commandWord.charAt(i), unused -> new Node<>());
+            node.add(commandWord, value);
+        }
+    }
+
+    /**
+     * Returns the value of the only command word that starts with {@code prefix}, or null if there is not exactly
+     * one such command word.
+     */
+    T find(String prefix) {
+        Node<T> node = nodeOf(prefix);
+        return node == null || node.words.size() != 1 ? null : node.value;
+    }
+
+    /**
+     * Returns the command words that start with {@code prefix}, in the order they were registered.
+     */
+    List<String> wordsStartingWith(String prefix) {
+        Node<T> node = nodeOf(prefix);
+        return node == null ? Collections.emptyList() : node.unmodifiableWords;
+    }
+
+    private Node<T> nodeOf(String prefix) {
+        requireNonNull(prefix);
+        Node<T> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * The command words that start with the characters on the path to this node.
+     */
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<String> words = new ArrayList<>();
+        private final List<String> unmodifiableWords = Collections.unmodifiableList(words);
+        // The value of the first command word below this node, which is the one found if it is the only one.
+        private T value;
+
+        private void add(String commandWord, T commandValue) {
+            if (words.isEmpty()) {
+                value = commandValue;
+            }
+            words.add(commandWord);
+        }
+    }
+}
@@ -4,8 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_QUANTITY;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -28,6 +26,17 @@ import seedu.address.model.vendor.Phone;
  */
 public class ParserUtil {
 
+    /**
+     * The modes of the preset command, each registered under its own word.
+     */
+    private static final CommandWordTrie<String> PRESET_MODES = new CommandWordTrie<>();
+
+    static {
+        for (String mode : new String[] {"save", "load", "delete"}) {
+            PRESET_MODES.register(mode, mode);
+        }
+    }
+
     /**
      * Parses {@code inequality} into an {@code Inequality} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -190,6 +199,7 @@ public class ParserUtil {
 
     /**
      * Parses and validates the string for Preset Command.
+     * Returns the mode, expanded from the prefix given for it, followed by the rest of the string.
      */
     public static String[] checkPresetSyntax(String modeType) throws ParseException {
         requireNonNull(modeType);
@@ -207,14 +217,8 @@ public class ParserUtil {
             argsArr[1] = trimArgs.substring(firstSpace + 1).trim();
         }
 
-        String[] commands = {
-            "save",
-            "load",
-            "delete"
-        };
-        ArrayList<String> matchingCommands = new ArrayList<>(Arrays.asList(commands));
-        matchingCommands.removeIf(s -> !s.startsWith(argsArr[0]));
-        if (matchingCommands.size() == 0) {
+        argsArr[0] = PRESET_MODES.find(argsArr[0]);
+        if (argsArr[0] == null) {
             throw new ParseException(PresetCommand.MESSAGE_USAGE);
         }
 
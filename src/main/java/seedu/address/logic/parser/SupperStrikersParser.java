@@ -4,8 +4,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,6 +18,7 @@ import seedu.address.logic.commands.MenuCommand;
 import seedu.address.logic.commands.PresetCommand;
 import seedu.address.logic.commands.PriceCommand;
 import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.SubmitCommand;
@@ -39,6 +39,33 @@ public class SupperStrikersParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * The parser of each command, by its command word. Parsers are stateless, so one of each is shared.
+     * Commands that take no arguments ignore any that are given.
+     */
+    private static final CommandWordTrie<Parser<? extends Command>> PARSERS = new CommandWordTrie<>();
+
+    static {
+        PARSERS.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        PARSERS.register(RemoveCommand.COMMAND_WORD, new RemoveCommandParser());
+        PARSERS.register(TagCommand.COMMAND_WORD, new TagCommandParser());
+        PARSERS.register(UntagCommand.COMMAND_WORD, new UntagCommandParser());
+        PARSERS.register(SortCommand.COMMAND_WORD, new SortCommandParser());
+        PARSERS.register(ClearCommand.COMMAND_WORD, new ClearCommandParser());
+        PARSERS.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        PARSERS.register(PriceCommand.COMMAND_WORD, new PriceCommandParser());
+        PARSERS.register(MenuCommand.COMMAND_WORD, arguments -> new MenuCommand());
+        PARSERS.register(TotalCommand.COMMAND_WORD, arguments -> new TotalCommand());
+        PARSERS.register(SubmitCommand.COMMAND_WORD, arguments -> new SubmitCommand());
+        PARSERS.register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        PARSERS.register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        PARSERS.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        PARSERS.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        PARSERS.register(VendorCommand.COMMAND_WORD, new VendorCommandParser());
+        PARSERS.register(ProfileCommand.COMMAND_WORD, new ProfileCommandParser());
+        PARSERS.register(PresetCommand.COMMAND_WORD, new PresetCommandParser());
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -55,93 +82,14 @@ public class SupperStrikersParser {
         final String commandPrefix = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
 
-        String[] commands = {
-            AddCommand.COMMAND_WORD,
-            RemoveCommand.COMMAND_WORD,
-            TagCommand.COMMAND_WORD,
-            UntagCommand.COMMAND_WORD,
-            SortCommand.COMMAND_WORD,
-            ClearCommand.COMMAND_WORD,
-            FindCommand.COMMAND_WORD,
-            PriceCommand.COMMAND_WORD,
-            MenuCommand.COMMAND_WORD,
-            TotalCommand.COMMAND_WORD,
-            SubmitCommand.COMMAND_WORD,
-            UndoCommand.COMMAND_WORD,
-            ExitCommand.COMMAND_WORD,
-            HelpCommand.COMMAND_WORD,
-            VendorCommand.COMMAND_WORD,
-            ProfileCommand.COMMAND_WORD,
-            PresetCommand.COMMAND_WORD,
-        };
-
-        ArrayList<String> matchingCommands = new ArrayList<>(Arrays.asList(commands));
-
-        matchingCommands.removeIf(s -> !s.startsWith(commandPrefix));
-
-        String commandWord = "";
-        if (matchingCommands.size() == 1) {
-            commandWord = matchingCommands.get(0);
-        }
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case RemoveCommand.COMMAND_WORD:
-            return new RemoveCommandParser().parse(arguments);
-
-        case TagCommand.COMMAND_WORD:
-            return new TagCommandParser().parse(arguments);
-
-        case UntagCommand.COMMAND_WORD:
-            return new UntagCommandParser().parse(arguments);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case PriceCommand.COMMAND_WORD:
-            return new PriceCommandParser().parse(arguments);
-
-        case MenuCommand.COMMAND_WORD:
-            return new MenuCommand();
-
-        case TotalCommand.COMMAND_WORD:
-            return new TotalCommand();
-
-        case SubmitCommand.COMMAND_WORD:
-            return new SubmitCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case VendorCommand.COMMAND_WORD:
-            return new VendorCommandParser().parse(arguments);
-
-        case PresetCommand.COMMAND_WORD:
-            return new PresetCommandParser().parse(arguments);
-
-        case ProfileCommand.COMMAND_WORD:
-            return new ProfileCommandParser().parse(arguments);
-
-        default:
-            throw matchingCommands.size() == 0
+        Parser<? extends Command> parser = PARSERS.find(commandPrefix);
+        if (parser == null) {
+            List<String> matchingCommands = PARSERS.wordsStartingWith(commandPrefix);
+            throw matchingCommands.isEmpty()
                     ? new ParseException(MESSAGE_UNKNOWN_COMMAND)
                     : new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, matchingCommands));
         }
+        return parser.parse(arguments);
     }
 
 }
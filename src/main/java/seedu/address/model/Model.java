@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -151,6 +152,20 @@ public interface Model {
      */
     void updateFilteredMenuItemList(Predicate<MenuItem> predicate);
 
+    /**
+     * Updates the filter of the filtered menu item list to the menu items with a word in their name or tags that
+     * contains any of {@code keywords}, ignoring case. Uses the menu's search index instead of testing every item.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void findMenuItems(List<String> keywords);
+
+    /**
+     * Updates the filter of the filtered menu item list to the menu items priced from {@code minCents} inclusive
+     * to {@code maxCents} exclusive. Uses the menu's price index instead of testing every item.
+     */
+    void filterMenuItemsByPrice(long minCents, long maxCents);
+
     /**
      * Returns an unmodifiable view of the filtered orderItem list at the corresponding index
      */
@@ -158,14 +173,45 @@ public interface Model {
 
     int getOrderSize();
 
+    /**
+     * Returns the total cost of the order in cents as a property that is updated whenever the order changes.
+     */
+    ReadOnlyLongProperty getOrderTotalCentsProperty();
+
     int getVendorIndex();
 
-    int getOrderHistorySize();
+    /**
+     * Returns true if there is a change to the order that can be undone.
+     */
+    boolean canUndoOrder();
+
+    /**
+     * Returns true if there is an undone change to the order that can be redone.
+     */
+    boolean canRedoOrder();
+
+    /**
+     * Returns the estimated number of bytes held by the undo and redo history of the order.
+     */
+    long getOrderHistoryFootprint();
 
     int getOrderItemQuantity(int index);
 
     void undoOrder();
 
+    /**
+     * Holds back reports of changes to the order list until the matching {@link #endChanges()}, so that
+     * every change made in between is shown as one. Scopes may be nested.
+     */
+    void beginChanges();
+
+    /**
+     * Ends a scope started by {@link #beginChanges()}, reporting the changes made in it if it is the outermost.
+     */
+    void endChanges();
+
+    void redoOrder();
+
     boolean isSelected();
 
     void tagOrderItem(OrderItem orderItem, Tag tag);
@@ -5,20 +5,23 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.food.MenuItem;
 import seedu.address.model.menu.MenuManager;
+import seedu.address.model.menu.MenuManagerRegistry;
+import seedu.address.model.menu.MenuSortKey;
+import seedu.address.model.menu.MenuView;
 import seedu.address.model.menu.ReadOnlyMenuManager;
+import seedu.address.model.order.OrderHistory;
 import seedu.address.model.order.OrderItem;
 import seedu.address.model.order.OrderManager;
 import seedu.address.model.order.ReadOnlyOrderManager;
@@ -35,11 +38,11 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VendorManager vendorManager;
-    private final List<MenuManager> menuManagers;
+    private final MenuManagerRegistry menuManagers;
     private final OrderManager orderManager;
 
     private final UserPrefs userPrefs;
-    private ObservableList<MenuItem> filteredMenuItems;
+    private MenuView menuView;
 
     private boolean isSortedAsc = false;
 
@@ -53,8 +56,9 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + vendorManager + " and user prefs " + userPrefs);
 
         this.vendorManager = new VendorManager(vendorManager);
-        this.menuManagers = new ArrayList<>();
-        this.orderManager = new OrderManager();
+        this.menuManagers = MenuManagerRegistry.of(new ArrayList<>());
+        this.orderManager = new OrderManager(
+                new OrderHistory(userPrefs.getOrderHistoryDepth(), userPrefs.getOrderHistoryBudget()));
 
         this.userPrefs = new UserPrefs(userPrefs);
     }
@@ -67,6 +71,21 @@ public class ModelManager implements Model {
             ReadOnlyUserPrefs userPrefs,
             List<MenuManager> menuManagers,
             OrderManager orderManager
+    ) {
+        this(vendorManager, userPrefs, MenuManagerRegistry.of(menuManagers), orderManager);
+    }
+
+    /**
+     * Initializes a ModelManager with the given vendorManager, userPrefs, orderManager and the menu managers in
+     * {@code menuManagers}, which are only materialised when their vendor is selected.
+     * If {@code orderManager} is already for a vendor, e.g. one recovered from the order journal, that vendor is
+     * selected.
+     */
+    public ModelManager(
+            ReadOnlyVendorManager vendorManager,
+            ReadOnlyUserPrefs userPrefs,
+            MenuManagerRegistry menuManagers,
+            OrderManager orderManager
     ) {
         super();
         requireAllNonNull(vendorManager, userPrefs, menuManagers, orderManager);
@@ -77,6 +96,9 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.menuManagers = menuManagers;
         this.orderManager = orderManager;
+        if (orderManager.getVendorIndex() != -1) {
+            selectVendor(orderManager.getVendorIndex());
+        }
     }
 
     public ModelManager() {
@@ -139,8 +161,15 @@ public class ModelManager implements Model {
     @Override
     public void selectVendor(int vendorIndex) {
         this.vendorManager.selectVendor(vendorIndex);
+        this.orderManager.setVendorIndex(vendorIndex);
+        if (menuView != null) {
+            menuView.dispose();
+            menuView = null;
+        }
         if (vendorIndex != -1) {
-            this.filteredMenuItems = new FilteredList<>(this.menuManagers.get(vendorIndex).getMenuItemList());
+            this.menuView = new MenuView(this.menuManagers.get(vendorIndex));
+            menuManagers.warm(vendorIndex + 1);
+            menuManagers.warm(vendorIndex - 1);
         }
     }
 
@@ -177,22 +206,20 @@ public class ModelManager implements Model {
             return;
         }
         // not suppose to modify menumanager's menus
-        Comparator<MenuItem> itemComparator;
+        MenuSortKey sortKey;
         switch (sortedBy) {
         case SortCommand.NAME:
-            itemComparator = Comparator.comparing(MenuItem::getName);
+            sortKey = MenuSortKey.NAME;
             break;
         case SortCommand.PRICE:
-            itemComparator = Comparator.comparing(MenuItem::getPrice);
+            sortKey = MenuSortKey.PRICE;
             break;
         default:
             throw new IllegalStateException("Unexpected value: " + sortedBy);
         }
 
-        filteredMenuItems = filteredMenuItems.sorted(itemComparator);
-        if ((toggle && isSortedAsc) || (!toggle && !ascending)) {
-            filteredMenuItems = filteredMenuItems.sorted(itemComparator.reversed());
-        }
+        boolean isDescending = (toggle && isSortedAsc) || (!toggle && !ascending);
+        menuView.sortBy(sortKey, !isDescending);
         isSortedAsc = toggle ? !isSortedAsc : ascending;
     }
 
@@ -200,7 +227,7 @@ public class ModelManager implements Model {
      * Shows the current menu at the default state.
      */
     public void showDefaultMenu() {
-        filteredMenuItems = new FilteredList<>(getMenuManager(getVendorIndex()).getMenuItemList());
+        menuView.reset();
         isSortedAsc = false;
     }
 
@@ -257,8 +284,18 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public int getOrderHistorySize() {
-        return orderManager.getOrderHistorySize();
+    public boolean canUndoOrder() {
+        return orderManager.canUndo();
+    }
+
+    @Override
+    public boolean canRedoOrder() {
+        return orderManager.canRedo();
+    }
+
+    @Override
+    public long getOrderHistoryFootprint() {
+        return orderManager.getOrderHistoryFootprint();
     }
 
     @Override
@@ -271,6 +308,21 @@ public class ModelManager implements Model {
         orderManager.undoChanges();
     }
 
+    @Override
+    public void redoOrder() {
+        orderManager.redoChanges();
+    }
+
+    @Override
+    public void beginChanges() {
+        orderManager.beginChanges();
+    }
+
+    @Override
+    public void endChanges() {
+        orderManager.endChanges();
+    }
+
     @Override
     public void clearOrder() {
         orderManager.setOrder(new ArrayList<>());
@@ -286,6 +338,11 @@ public class ModelManager implements Model {
         return orderManager.getOrderItemList().size();
     }
 
+    @Override
+    public ReadOnlyLongProperty getOrderTotalCentsProperty() {
+        return orderManager.totalCentsProperty();
+    }
+
     @Override
     public ObservableList<OrderItem> getObservableOrderItemList() {
         return orderManager.getOrderItemList();
@@ -295,12 +352,12 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<MenuItem> getFilteredMenuItemList() {
-        return filteredMenuItems;
+        return menuView == null ? null : menuView.asUnmodifiableObservableList();
     }
 
     @Override
     public int getFilteredMenuItemListSize() {
-        return filteredMenuItems == null ? 0 : getFilteredMenuItemList().size();
+        return menuView == null ? 0 : getFilteredMenuItemList().size();
     }
 
     @Override
@@ -311,7 +368,26 @@ public class ModelManager implements Model {
             return;
         }
         // not suppose to modify menumanager's menus
-        filteredMenuItems = filteredMenuItems.filtered(predicate);
+        menuView.addFilter(predicate);
+    }
+
+    @Override
+    public void findMenuItems(List<String> keywords) {
+        requireNonNull(keywords);
+        int index = getVendorIndex();
+        if (index < 0 || index >= menuManagers.size()) {
+            return;
+        }
+        menuView.find(keywords);
+    }
+
+    @Override
+    public void filterMenuItemsByPrice(long minCents, long maxCents) {
+        int index = getVendorIndex();
+        if (index < 0 || index >= menuManagers.size()) {
+            return;
+        }
+        menuView.filterByPrice(minCents, maxCents);
     }
 
     @Override
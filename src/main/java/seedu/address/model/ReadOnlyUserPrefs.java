@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getVendorManagerFilePath();
 
+    int getOrderHistoryDepth();
+
+    long getOrderHistoryBudget();
+
 }
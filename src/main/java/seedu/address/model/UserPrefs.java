@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.order.OrderHistory;
 
 /**
  * Represents User's preferences.
@@ -17,6 +19,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path vendorManagerFilePath = Paths.get("data" , "vendormanager.json");
     private Path orderManagerFilePath = Paths.get("data", "presets.json");
     private Path profileManagerFilePath = Paths.get("data", "profile.json");
+    private int orderHistoryDepth = OrderHistory.DEFAULT_MAX_DEPTH;
+    private long orderHistoryBudget = OrderHistory.DEFAULT_MEMORY_BUDGET;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setVendorManagerFilePath(newUserPrefs.getVendorManagerFilePath());
+        setOrderHistoryDepth(newUserPrefs.getOrderHistoryDepth());
+        setOrderHistoryBudget(newUserPrefs.getOrderHistoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -76,6 +82,27 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.profileManagerFilePath = profileManagerFilePath;
     }
 
+    public int getOrderHistoryDepth() {
+        return orderHistoryDepth;
+    }
+
+    public void setOrderHistoryDepth(int orderHistoryDepth) {
+        checkArgument(orderHistoryDepth >= 0, "Order history depth must not be negative.");
+        this.orderHistoryDepth = orderHistoryDepth;
+    }
+
+    /**
+     * Returns the number of bytes the undo and redo history of an order may take up.
+     */
+    public long getOrderHistoryBudget() {
+        return orderHistoryBudget;
+    }
+
+    public void setOrderHistoryBudget(long orderHistoryBudget) {
+        checkArgument(orderHistoryBudget >= 0, "Order history budget must not be negative.");
+        this.orderHistoryBudget = orderHistoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -88,12 +115,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && vendorManagerFilePath.equals(o.vendorManagerFilePath);
+                && vendorManagerFilePath.equals(o.vendorManagerFilePath)
+                && orderHistoryDepth == o.orderHistoryDepth
+                && orderHistoryBudget == o.orderHistoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, vendorManagerFilePath);
+        return Objects.hash(guiSettings, vendorManagerFilePath, orderHistoryDepth, orderHistoryBudget);
     }
 
     @Override
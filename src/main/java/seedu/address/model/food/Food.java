@@ -16,7 +16,7 @@ public abstract class Food {
 
     // Identity fields
     protected final String name;
-    protected final double price;
+    protected final Money price;
 
     // Data fields
     protected final Set<Tag> tags = new HashSet<>();
@@ -24,7 +24,7 @@ public abstract class Food {
     /**
      * Every field must be present and not null.
      */
-    public Food(String name, double price, Set<Tag> tags) {
+    public Food(String name, Money price, Set<Tag> tags) {
         requireAllNonNull(name, price, tags);
         this.name = name;
         this.price = price;
@@ -35,26 +35,14 @@ public abstract class Food {
      * Checks whether the price of the food is valid.
      */
     public static boolean isValidPrice(double price) {
-        if (price <= 0) {
-            return false;
-        }
-
-        String priceString = String.valueOf(price);
-        String[] priceArray = priceString.split("\\.");
-
-        // Price with 0 as fractional portion
-        if (priceArray.length == 1) {
-            return true;
-        }
-        assert priceArray.length == 2;
-        return priceArray[1].length() <= 2;
+        return price > 0 && Money.isValidAmount(price);
     }
 
     public String getName() {
         return name;
     }
 
-    public double getPrice() {
+    public Money getPrice() {
         return price;
     }
 
@@ -62,7 +50,7 @@ public abstract class Food {
      * Formats the price to 2 decimal places
      */
     public String getPriceString() {
-        return String.format("$%.2f", price);
+        return price.toString();
     }
 
     public abstract Set<Tag> getTags();
@@ -85,7 +73,7 @@ public abstract class Food {
 
         Food otherFood = (Food) other;
         return otherFood.getName().equals(getName())
-                && otherFood.getPrice() == getPrice()
+                && otherFood.getPrice().equals(getPrice())
                 && otherFood.getTags().equals(getTags());
     }
 
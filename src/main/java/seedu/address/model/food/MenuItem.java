@@ -11,11 +11,18 @@ public class MenuItem extends Food {
     /**
      * Every field must be present and not null.
      */
-    public MenuItem (String name, double price, Set<Tag> tags, String filePath) {
+    public MenuItem (String name, Money price, Set<Tag> tags, String filePath) {
         super(name, price, tags);
         this.filePath = filePath;
     }
 
+    /**
+     * Alternative constructor that takes the price in dollars, which must have at most 2 decimal places.
+     */
+    public MenuItem (String name, double price, Set<Tag> tags, String filePath) {
+        this(name, Money.of(price), tags, filePath);
+    }
+
     @Override
     public Set<Tag> getTags() {
         return this.tags;
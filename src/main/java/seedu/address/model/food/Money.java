@@ -0,0 +1,122 @@
+package seedu.address.model.food;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents an amount of money, stored exactly as a whole number of cents.
+ * Guarantees: immutable.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Amounts of money can have at most 2 decimal places.";
+
+    public static final Money ZERO = new Money(0);
+
+    // Allowance for the binary representation error of doubles such as 1.2 when scaled to cents.
+    private static final double CENTS_TOLERANCE = 1e-6;
+
+    private final long cents;
+
+    // Formatted lazily, since most amounts are only compared and never displayed.
+    private String formatted;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount of {@code cents} cents.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the amount of {@code dollars} dollars, which must have at most 2 decimal places.
+     */
+    public static Money of(double dollars) {
+        checkArgument(isValidAmount(dollars), MESSAGE_CONSTRAINTS);
+        return ofCents(Math.round(dollars * 100));
+    }
+
+    /**
+     * Returns true if {@code dollars} is a finite amount with at most 2 decimal places.
+     */
+    public static boolean isValidAmount(double dollars) {
+        double scaled = dollars * 100;
+        return Double.isFinite(scaled) && Math.abs(scaled - Math.rint(scaled)) < CENTS_TOLERANCE;
+    }
+
+    /**
+     * Returns the number of whole cents in {@code dollars}, rounding down unless {@code dollars} is a whole
+     * number of cents. Used to turn an arbitrary amount into the closest comparable amount in cents.
+     */
+    public static long floorCents(double dollars) {
+        double scaled = dollars * 100;
+        double nearest = Math.rint(scaled);
+        return (long) (Math.abs(scaled - nearest) < CENTS_TOLERANCE ? nearest : Math.floor(scaled));
+    }
+
+    /**
+     * Returns the number of whole cents in {@code dollars}, rounding up unless {@code dollars} is a whole
+     * number of cents.
+     */
+    public static long ceilCents(double dollars) {
+        double scaled = dollars * 100;
+        double nearest = Math.rint(scaled);
+        return (long) (Math.abs(scaled - nearest) < CENTS_TOLERANCE ? nearest : Math.ceil(scaled));
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the amount in dollars.
+     */
+    public double toDouble() {
+        return cents / 100.0;
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money times(int quantity) {
+        return ofCents(Math.multiplyExact(cents, quantity));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Money // instanceof handles nulls
+                && cents == ((Money) other).cents); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * Formats the amount as dollars to 2 decimal places, e.g. {@code $1.50}.
+     */
+    @Override
+    public String toString() {
+        if (formatted == null) {
+            long absolute = Math.abs(cents);
+            long fraction = absolute % 100;
+            formatted = (cents < 0 ? "-$" : "$") + absolute / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+        }
+        return formatted;
+    }
+}
@@ -9,6 +9,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class PriceWithinRangePredicate implements Predicate<MenuItem> {
     private final double price;
     private final Inequality inequality;
+    private final long boundCents;
 
     /**
      * Creates a predicate, taking in an inequality and a price. Used to compare the price of a food item to the price
@@ -20,19 +21,58 @@ public class PriceWithinRangePredicate implements Predicate<MenuItem> {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_PRICE, price));
         }
         this.price = price;
+        // Prices are whole cents, so "< 2.255" is the same as "< 2.26" and "<= 2.255" is the same as "<= 2.25".
+        switch (inequality) {
+        case LESSER_THAN:
+        case GREATER_THAN_OR_EQUAL_TO:
+            this.boundCents = Money.ceilCents(price);
+            break;
+        default:
+            this.boundCents = Money.floorCents(price);
+            break;
+        }
+    }
+
+    /**
+     * Returns the lowest price in cents, inclusive, accepted by this predicate.
+     */
+    public long getMinCents() {
+        switch (inequality) {
+        case GREATER_THAN:
+            return boundCents + 1;
+        case GREATER_THAN_OR_EQUAL_TO:
+            return boundCents;
+        default:
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Returns the price in cents, exclusive, below which prices are accepted by this predicate.
+     */
+    public long getMaxCents() {
+        switch (inequality) {
+        case LESSER_THAN:
+            return boundCents;
+        case LESSER_THAN_OR_EQUAL_TO:
+            return boundCents + 1;
+        default:
+            return Long.MAX_VALUE;
+        }
     }
 
     @Override
     public boolean test(MenuItem item) {
+        long itemCents = item.getPrice().getCents();
         switch (inequality) {
         case LESSER_THAN:
-            return item.getPrice() < price;
+            return itemCents < boundCents;
         case LESSER_THAN_OR_EQUAL_TO:
-            return item.getPrice() <= price;
+            return itemCents <= boundCents;
         case GREATER_THAN:
-            return item.getPrice() > price;
+            return itemCents > boundCents;
         case GREATER_THAN_OR_EQUAL_TO:
-            return item.getPrice() >= price;
+            return itemCents >= boundCents;
         default:
             assert (false);
             return false;
@@ -4,9 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -25,6 +32,9 @@ import seedu.address.storage.JsonAdaptedMenuItem;
  * unique in terms of identity in the Menu. The removal of a menu item also uses Food#equals(Object) so
  * as to ensure that the food with exactly the same fields will be removed.
  *
+ * The identities of the menu items are also kept in a hash set next to the list, so that duplicates are found
+ * in constant time. Menu items must therefore not be modified in place while they are in the menu.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Food#equals(Object) (Food)
@@ -34,13 +44,20 @@ public class Menu implements Iterable<MenuItem> {
     private final ObservableList<MenuItem> internalList = FXCollections.observableArrayList();
     private final ObservableList<MenuItem> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<MenuItem> identities = new HashSet<>();
+    // Updated before internalList so that listeners of the list already see the new indexes.
+    private final MenuSearchIndex searchIndex = new MenuSearchIndex();
+    private final MenuPriceIndex priceIndex = new MenuPriceIndex();
+    private final MenuSortIndex sortIndex = new MenuSortIndex();
+    // The position of each menu item in the list, built when first needed after the list changes.
+    private Map<MenuItem, Integer> positions;
 
     /**
      * Returns true if the list contains an equivalent food as the given argument.
      */
     public boolean contains(MenuItem toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return identities.contains(toCheck);
     }
 
     /**
@@ -49,9 +66,13 @@ public class Menu implements Iterable<MenuItem> {
      */
     public void add(MenuItem toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!identities.add(toAdd)) {
             throw new DuplicateFoodException();
         }
+        searchIndex.add(toAdd);
+        priceIndex.invalidate();
+        sortIndex.invalidate();
+        positions = null;
         internalList.add(toAdd);
     }
 
@@ -72,6 +93,13 @@ public class Menu implements Iterable<MenuItem> {
             throw new DuplicateFoodException();
         }
 
+        identities.remove(target);
+        identities.add(editedItem);
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(editedItem);
+        priceIndex.invalidate();
+        sortIndex.invalidate();
+        positions = null;
         internalList.set(index, editedItem);
     }
 
@@ -81,13 +109,25 @@ public class Menu implements Iterable<MenuItem> {
      */
     public void remove(MenuItem toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!identities.remove(toRemove)) {
             throw new FoodNotFoundException();
         }
+        int index = internalList.indexOf(toRemove);
+        searchIndex.remove(internalList.get(index));
+        priceIndex.invalidate();
+        sortIndex.invalidate();
+        positions = null;
+        internalList.remove(index);
     }
 
     public void setMenuItems(Menu replacement) {
         requireNonNull(replacement);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        searchIndex.setAll(replacement.internalList);
+        priceIndex.invalidate();
+        sortIndex.invalidate();
+        positions = null;
         internalList.setAll(replacement.internalList);
     }
 
@@ -98,24 +138,46 @@ public class Menu implements Iterable<MenuItem> {
      */
     public void setMenuItems(List<MenuItem> items) {
         requireAllNonNull(items);
-        if (!itemsAreUnique(items)) {
+        Set<MenuItem> newIdentities = new HashSet<>();
+        if (!addAllUnique(newIdentities, items)) {
             throw new DuplicateFoodException();
         }
 
+        identities.clear();
+        identities.addAll(newIdentities);
+        searchIndex.setAll(items);
+        priceIndex.invalidate();
+        sortIndex.invalidate();
+        positions = null;
         internalList.setAll(items);
     }
 
+    /**
+     * Adds all of {@code items} to the end of the list at once, notifying listeners of the list only once.
+     * None of the menu items may already exist in the list or appear in {@code items} more than once,
+     * otherwise the list is left unchanged.
+     */
+    public void addAll(Collection<MenuItem> items) {
+        requireAllNonNull(items);
+        Set<MenuItem> newIdentities = new HashSet<>();
+        if (!addAllUnique(newIdentities, items) || newIdentities.stream().anyMatch(identities::contains)) {
+            throw new DuplicateFoodException();
+        }
+
+        identities.addAll(items);
+        items.forEach(searchIndex::add);
+        priceIndex.invalidate();
+        sortIndex.invalidate();
+        positions = null;
+        internalList.addAll(items);
+    }
+
     /**
      * Sort Menu items in menu by name
      * @param ascending decide whether to sort ascending or descending
      */
     public void sortMenuItemByName(boolean ascending) {
-        Comparator<MenuItem> itemComparator = Comparator.comparing(MenuItem::getName);
-        if (ascending) {
-            internalList.sort(itemComparator);
-        } else {
-            internalList.sort(itemComparator.reversed());
-        }
+        sortMenuItemBy(MenuSortKey.NAME, ascending);
     }
 
     /**
@@ -123,12 +185,22 @@ public class Menu implements Iterable<MenuItem> {
      * @param ascending decide whether to sort ascending or descending
      */
     public void sortMenuItemByPrice(boolean ascending) {
-        Comparator<MenuItem> itemComparator = Comparator.comparing(MenuItem::getPrice);
-        if (ascending) {
-            internalList.sort(itemComparator);
-        } else {
-            internalList.sort(itemComparator.reversed());
+        sortMenuItemBy(MenuSortKey.PRICE, ascending);
+    }
+
+    /**
+     * Reorders the menu items by {@code key}. The sort reuses the cached order for {@code key} if there is one,
+     * but as items that tie are kept in their order in the menu, every cached order is discarded afterwards.
+     */
+    private void sortMenuItemBy(MenuSortKey key, boolean ascending) {
+        List<MenuItem> sorted = new ArrayList<>(getSortedMenuItems(key));
+        if (!ascending) {
+            Collections.reverse(sorted);
         }
+        priceIndex.invalidate();
+        sortIndex.invalidate();
+        positions = null;
+        internalList.setAll(sorted);
     }
 
     /**
@@ -145,10 +217,17 @@ public class Menu implements Iterable<MenuItem> {
             }
             return null;
         }).collect(Collectors.toList());
-        if (!itemsAreUnique(menuItemList)) {
+        Set<MenuItem> newIdentities = new HashSet<>();
+        if (!addAllUnique(newIdentities, menuItemList)) {
             throw new DuplicateFoodException();
         }
 
+        identities.clear();
+        identities.addAll(newIdentities);
+        searchIndex.setAll(menuItemList);
+        priceIndex.invalidate();
+        sortIndex.invalidate();
+        positions = null;
         internalList.setAll(menuItemList);
     }
 
@@ -166,6 +245,73 @@ public class Menu implements Iterable<MenuItem> {
         return menuItemList;
     }
 
+    /**
+     * Returns the menu items with a word in their name or tags that contains any of {@code keywords},
+     * ignoring case. The returned set compares menu items by identity.
+     */
+    public Set<MenuItem> search(Collection<String> keywords) {
+        return searchIndex.search(keywords);
+    }
+
+    /**
+     * Returns the menu items priced from {@code minCents} inclusive to {@code maxCents} exclusive, in ascending
+     * order of price. The returned list is a read-only view that is only valid until the menu next changes.
+     */
+    public List<MenuItem> getMenuItemsInPriceRange(long minCents, long maxCents) {
+        return priceIndex.inRange(sortIndex.get(MenuSortKey.PRICE, internalList), minCents, maxCents);
+    }
+
+    /**
+     * Returns the menu items in ascending order of {@code key}. Items that tie keep their order in the menu.
+     * The returned list is a read-only view that is only valid until the menu next changes.
+     */
+    public List<MenuItem> getSortedMenuItems(MenuSortKey key) {
+        requireNonNull(key);
+        return Collections.unmodifiableList(Arrays.asList(sortIndex.get(key, internalList)));
+    }
+
+    /**
+     * Returns {@code items}, which must all be in the menu, in the order they appear in the menu, or in ascending
+     * order of {@code key} if it is not null. Items that tie keep their order in the menu, as in
+     * {@link #getSortedMenuItems(MenuSortKey)}. Only {@code items} are sorted, not the whole menu.
+     */
+    public List<MenuItem> order(Collection<MenuItem> items, MenuSortKey key) {
+        requireNonNull(items);
+        if (positions == null) {
+            positions = new IdentityHashMap<>();
+            for (int i = 0; i < internalList.size(); i++) {
+                positions.put(internalList.get(i), i);
+            }
+        }
+        Comparator<MenuItem> menuOrder = Comparator.comparingInt(positions::get);
+        List<MenuItem> ordered = new ArrayList<>(items);
+        ordered.sort(key == null ? menuOrder : key.getComparator().thenComparing(menuOrder));
+        return ordered;
+    }
+
+    /**
+     * Returns the menu items priced from {@code minCents} inclusive to {@code maxCents} exclusive with a word
+     * in their name or tags that contains any of {@code keywords}, ignoring case.
+     * Only the smaller of the keyword matches and the price range is scanned.
+     * The returned set compares menu items by identity.
+     */
+    public Set<MenuItem> search(Collection<String> keywords, long minCents, long maxCents) {
+        Set<MenuItem> keywordMatches = searchIndex.search(keywords);
+        List<MenuItem> priceMatches = getMenuItemsInPriceRange(minCents, maxCents);
+        if (keywordMatches.size() <= priceMatches.size()) {
+            keywordMatches.removeIf(item -> item.getPrice().getCents() < minCents
+                    || item.getPrice().getCents() >= maxCents);
+            return keywordMatches;
+        }
+        Set<MenuItem> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (MenuItem item : priceMatches) {
+            if (keywordMatches.contains(item)) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -191,14 +337,12 @@ public class Menu implements Iterable<MenuItem> {
     }
 
     /**
-     * Returns true if {@code menuItems} contains only unique menu items.
+     * Adds {@code items} to {@code identities}, returning false as soon as one of them is already there.
      */
-    private boolean itemsAreUnique(List<MenuItem> items) {
-        for (int i = 0; i < items.size() - 1; i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (items.get(i).equals(items.get(j))) {
-                    return false;
-                }
+    private static boolean addAllUnique(Set<MenuItem> identities, Collection<MenuItem> items) {
+        for (MenuItem item : items) {
+            if (!identities.add(item)) {
+                return false;
             }
         }
         return true;
@@ -2,7 +2,9 @@ package seedu.address.model.menu;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.food.MenuItem;
@@ -109,6 +111,47 @@ public class MenuManager implements ReadOnlyMenuManager {
         menu.remove(key);
     }
 
+    /**
+     * Returns the menu items with a word in their name or tags that contains any of {@code keywords},
+     * ignoring case. The returned set compares menu items by identity.
+     */
+    public Set<MenuItem> search(Collection<String> keywords) {
+        return menu.search(keywords);
+    }
+
+    /**
+     * Returns the menu items priced from {@code minCents} inclusive to {@code maxCents} exclusive, in ascending
+     * order of price.
+     */
+    public List<MenuItem> getMenuItemsInPriceRange(long minCents, long maxCents) {
+        return menu.getMenuItemsInPriceRange(minCents, maxCents);
+    }
+
+    /**
+     * Returns the menu items priced from {@code minCents} inclusive to {@code maxCents} exclusive with a word
+     * in their name or tags that contains any of {@code keywords}, ignoring case.
+     * The returned set compares menu items by identity.
+     */
+    public Set<MenuItem> search(Collection<String> keywords, long minCents, long maxCents) {
+        return menu.search(keywords, minCents, maxCents);
+    }
+
+    /**
+     * Returns {@code items}, which must all be in the menu, in the order they appear in the menu, or in ascending
+     * order of {@code key} if it is not null.
+     */
+    public List<MenuItem> orderMenuItems(Collection<MenuItem> items, MenuSortKey key) {
+        return menu.order(items, key);
+    }
+
+    /**
+     * Returns the menu items in ascending order of {@code key}.
+     * The order is cached until the menu next changes.
+     */
+    public List<MenuItem> getSortedMenuItems(MenuSortKey key) {
+        return menu.getSortedMenuItems(key);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,92 @@
+package seedu.address.model.menu;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The menu managers of all vendors, each materialised from its source only when it is first needed.
+ * A menu manager and the indexes built on its menu therefore only take up time and memory once the vendor is
+ * selected, however many vendors there are.
+ * If given an {@code Executor}, the registry can also materialise menu managers ahead of time in the background.
+ */
+public class MenuManagerRegistry {
+
+    private static final Logger logger = LogsCenter.getLogger(MenuManagerRegistry.class);
+
+    private final List<Supplier<? extends MenuManager>> sources;
+    private final MenuManager[] menuManagers;
+    private final Executor warmingExecutor;
+
+    /**
+     * Creates a registry that materialises the menu manager of the vendor at each index from the source at
+     * the same index of {@code sources}. The menu manager that a source returns is kept as it is, so any menu it
+     * shares with its vendor is what the registry's callers change.
+     *
+     * @param warmingExecutor runs background materialisation for {@link #warm(int)}, or null to disable it.
+     */
+    public MenuManagerRegistry(List<? extends Supplier<? extends MenuManager>> sources,
+            Executor warmingExecutor) {
+        requireNonNull(sources);
+        this.sources = new ArrayList<>(sources);
+        this.menuManagers = new MenuManager[sources.size()];
+        this.warmingExecutor = warmingExecutor;
+    }
+
+    /**
+     * Returns a registry of {@code menuManagers}, which are already materialised.
+     */
+    public static MenuManagerRegistry of(List<MenuManager> menuManagers) {
+        requireNonNull(menuManagers);
+        MenuManagerRegistry registry =
+                new MenuManagerRegistry(Collections.nCopies(menuManagers.size(), null), null);
+        menuManagers.toArray(registry.menuManagers);
+        return registry;
+    }
+
+    /**
+     * Returns the number of vendors in the registry.
+     */
+    public int size() {
+        return menuManagers.length;
+    }
+
+    /**
+     * Returns the menu manager of the vendor at {@code index}, materialising it if this is the first request.
+     */
+    public synchronized MenuManager get(int index) {
+        MenuManager menuManager = menuManagers[index];
+        if (menuManager == null) {
+            menuManager = sources.get(index).get();
+            menuManagers[index] = menuManager;
+            sources.set(index, null);
+            logger.fine("Materialised the menu of vendor " + index);
+        }
+        return menuManager;
+    }
+
+    /**
+     * Returns true if the menu manager of the vendor at {@code index} has been materialised.
+     */
+    public synchronized boolean isMaterialised(int index) {
+        return menuManagers[index] != null;
+    }
+
+    /**
+     * Materialises the menu manager of the vendor at {@code index} in the background, if {@code index} is a
+     * valid index and background materialisation is enabled. Does nothing otherwise.
+     */
+    public void warm(int index) {
+        if (warmingExecutor == null || index < 0 || index >= size() || isMaterialised(index)) {
+            return;
+        }
+        warmingExecutor.execute(() -> get(index));
+    }
+}
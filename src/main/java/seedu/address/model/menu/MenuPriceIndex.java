@@ -0,0 +1,65 @@
+package seedu.address.model.menu;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.food.MenuItem;
+
+/**
+ * The prices in cents of the items of a menu in ascending order, kept in a primitive array next to the menu
+ * items sorted by price, so that the items within a price range can be found by binary search.
+ * The index is rebuilt lazily on the first query after the menu changes.
+ */
+class MenuPriceIndex {
+
+    private MenuItem[] itemsByPrice;
+    private long[] sortedCents;
+
+    /**
+     * Marks the index as stale after the menu has changed.
+     */
+    void invalidate() {
+        itemsByPrice = null;
+        sortedCents = null;
+    }
+
+    /**
+     * Returns the menu items in {@code itemsByPrice} priced from {@code minCents} inclusive to {@code maxCents}
+     * exclusive. {@code itemsByPrice} must be the current contents of the menu in ascending order of price.
+     * The returned list is a read-only view that is only valid until the menu next changes.
+     */
+    List<MenuItem> inRange(MenuItem[] itemsByPrice, long minCents, long maxCents) {
+        if (this.itemsByPrice != itemsByPrice) {
+            build(itemsByPrice);
+        }
+        int from = lowerBound(minCents);
+        int to = Math.max(from, lowerBound(maxCents));
+        return Arrays.asList(itemsByPrice).subList(from, to);
+    }
+
+    private void build(MenuItem[] items) {
+        long[] cents = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            cents[i] = items[i].getPrice().getCents();
+        }
+        itemsByPrice = items;
+        sortedCents = cents;
+    }
+
+    /**
+     * Returns the position of the first item priced at or above {@code cents}.
+     */
+    private int lowerBound(long cents) {
+        int low = 0;
+        int high = sortedCents.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedCents[mid] < cents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
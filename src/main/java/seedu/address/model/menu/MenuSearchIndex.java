@@ -0,0 +1,131 @@
+package seedu.address.model.menu;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.food.MenuItem;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words in the names and tags of menu items to the menu items themselves.
+ * Each distinct lower-cased word is indexed once, so the index grows with the number of words rather than with
+ * their length. A keyword found anywhere inside a word matches it, as in {@code StringUtil#containsWordIgnoreCase},
+ * so a search checks each distinct word once and stops as soon as every menu item has matched.
+ * Menu items are tracked by identity.
+ */
+class MenuSearchIndex {
+
+    private final Map<String, Set<MenuItem>> postings = new HashMap<>();
+    private final Map<MenuItem, Set<String>> wordsByItem = new IdentityHashMap<>();
+
+    /**
+     * Indexes {@code item} under the words in its name and tags.
+     */
+    void add(MenuItem item) {
+        requireNonNull(item);
+        Set<String> words = wordsOf(item);
+        wordsByItem.put(item, words);
+        for (String word : words) {
+            postings.computeIfAbsent(word, key -> newIdentitySet()).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item}, which must be the same instance that was added, from the index.
+     */
+    void remove(MenuItem item) {
+        requireNonNull(item);
+        Set<String> words = wordsByItem.remove(item);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Set<MenuItem> items = postings.get(word);
+            items.remove(item);
+            if (items.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code items}.
+     */
+    void setAll(Collection<MenuItem> items) {
+        postings.clear();
+        wordsByItem.clear();
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of distinct words indexed.
+     */
+    int size() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the menu items with a word in their name or tags that contains any of {@code keywords},
+     * ignoring case. The returned set compares menu items by identity.
+     */
+    Set<MenuItem> search(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> parts = new HashSet<>();
+        for (String keyword : keywords) {
+            String part = keyword.trim().toLowerCase();
+            if (!part.isEmpty()) {
+                parts.add(part);
+            }
+        }
+        Set<MenuItem> matches = newIdentitySet();
+        if (parts.isEmpty()) {
+            return matches;
+        }
+        for (Map.Entry<String, Set<MenuItem>> posting : postings.entrySet()) {
+            if (containsAny(posting.getKey(), parts)) {
+                matches.addAll(posting.getValue());
+                if (matches.size() == wordsByItem.size()) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containsAny(String word, Set<String> parts) {
+        for (String part : parts) {
+            if (word.contains(part)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> wordsOf(MenuItem item) {
+        Set<String> words = new HashSet<>();
+        addWords(item.getName(), words);
+        for (Tag tag : item.getTags()) {
+            addWords(tag.tagName, words);
+        }
+        return words;
+    }
+
+    private static void addWords(String text, Set<String> words) {
+        for (String word : text.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+    }
+
+    private static Set<MenuItem> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
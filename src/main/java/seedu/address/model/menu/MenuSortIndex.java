@@ -0,0 +1,39 @@
+package seedu.address.model.menu;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import seedu.address.model.food.MenuItem;
+
+/**
+ * Caches the items of a menu sorted by each {@code MenuSortKey}, so that the menu only has to be sorted once
+ * per key until it next changes. Each sorted array is the menu permuted into ascending order; descending order
+ * is the same array read backwards.
+ * Items that tie keep their order in the menu, so the cached arrays must also be invalidated when the menu is
+ * reordered.
+ */
+class MenuSortIndex {
+
+    private final Map<MenuSortKey, MenuItem[]> sortedItems = new EnumMap<>(MenuSortKey.class);
+
+    /**
+     * Discards the cached orders after the items in the menu, or their order, have changed.
+     */
+    void invalidate() {
+        sortedItems.clear();
+    }
+
+    /**
+     * Returns {@code menuItems}, which must be the current contents of the menu, in ascending order of
+     * {@code key}. The returned array must not be modified.
+     */
+    MenuItem[] get(MenuSortKey key, Collection<MenuItem> menuItems) {
+        return sortedItems.computeIfAbsent(key, unused -> {
+            MenuItem[] items = menuItems.toArray(new MenuItem[0]);
+            Arrays.sort(items, key.getComparator());
+            return items;
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.model.menu;
+
+import java.util.Comparator;
+
+import seedu.address.model.food.MenuItem;
+
+/**
+ * The orders in which the items of a menu can be sorted.
+ */
+public enum MenuSortKey {
+    NAME(Comparator.comparing(MenuItem::getName)),
+    PRICE(Comparator.comparingLong(item -> item.getPrice().getCents()));
+
+    private final Comparator<MenuItem> comparator;
+
+    MenuSortKey(Comparator<MenuItem> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the comparator for sorting menu items by this key in ascending order.
+     */
+    public Comparator<MenuItem> getComparator() {
+        return comparator;
+    }
+}
@@ -0,0 +1,227 @@
+package seedu.address.model.menu;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.food.MenuItem;
+
+/**
+ * The menu items shown to the user: the menu of one vendor narrowed down by any number of filters and ordered
+ * by at most one {@code MenuSortKey}.
+ * Finds and price ranges are answered by the search and price indexes of the menu, and are looked up again only
+ * when the menu changes. The matches are then put in order by themselves, so the rest of the menu is not looked
+ * at. A price range alone is shown as the slice of the menu in that range, in ascending order of price unless
+ * the view is sorted otherwise.
+ * Other filters are kept in a list that menu items are tested against in turn, and whether each menu item
+ * satisfies all of them is remembered until the next filter is added, so that re-sorting or a change to the menu
+ * only tests the menu items that are new.
+ * Sorting reads the order cached by the {@code MenuManager}, ascending or backwards for descending, so switching
+ * between sort keys and directions never compares items once each order has been cached.
+ * The view follows changes to the menu until it is disposed.
+ */
+public class MenuView {
+
+    private final MenuManager menuManager;
+    // The filters added so far, all of which a menu item must satisfy to be shown.
+    private final List<Predicate<? super MenuItem>> filters = new ArrayList<>();
+    // Whether each of the menu items last shown or tested satisfies the filters.
+    private Map<MenuItem, Boolean> verdicts = new IdentityHashMap<>();
+    private final ObservableList<MenuItem> items = FXCollections.observableArrayList();
+    private final ObservableList<MenuItem> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+    private final ListChangeListener<MenuItem> menuListener = change -> {
+        isQueryStale = true;
+        refresh();
+    };
+
+    // The keywords of each find so far. A menu item is shown only if it matches a keyword of every find.
+    private final List<List<String>> keywordGroups = new ArrayList<>();
+    // The intersection of the price ranges so far, from minCents inclusive to maxCents exclusive.
+    private boolean isPriceFiltered;
+    private long minCents = Long.MIN_VALUE;
+    private long maxCents = Long.MAX_VALUE;
+    // The menu items that match every find and the price range, or null if there has been no find.
+    private Set<MenuItem> queryMatches;
+    // The menu items in the price range in ascending order of price, if there is a price range but no find.
+    private List<MenuItem> priceSlice;
+    private boolean isQueryStale;
+
+    private MenuSortKey sortKey;
+    private boolean isAscending;
+
+    /**
+     * Creates a view showing all of the menu items of {@code menuManager} in their original order.
+     */
+    public MenuView(MenuManager menuManager) {
+        requireNonNull(menuManager);
+        this.menuManager = menuManager;
+        menuManager.getMenuItemList().addListener(menuListener);
+        refresh();
+    }
+
+    /**
+     * Narrows down the view to the menu items that also satisfy {@code newFilter}.
+     */
+    public void addFilter(Predicate<? super MenuItem> newFilter) {
+        requireNonNull(newFilter);
+        filters.add(newFilter);
+
+        // Only the menu items shown satisfy the previous filters, so they need only be tested against the new one.
+        Map<MenuItem, Boolean> newVerdicts = new IdentityHashMap<>();
+        List<MenuItem> narrowed = new ArrayList<>();
+        for (MenuItem item : items) {
+            boolean isMatch = newFilter.test(item);
+            newVerdicts.put(item, isMatch);
+            if (isMatch) {
+                narrowed.add(item);
+            }
+        }
+        verdicts = newVerdicts;
+        items.setAll(narrowed);
+    }
+
+    /**
+     * Narrows down the view to the menu items with a word in their name or tags that contains any of
+     * {@code keywords}, ignoring case. Menu items added to the menu later are shown if they match too.
+     */
+    public void find(List<String> keywords) {
+        requireNonNull(keywords);
+        keywordGroups.add(List.copyOf(keywords));
+        isQueryStale = true;
+        refresh();
+    }
+
+    /**
+     * Narrows down the view to the menu items priced from {@code minCents} inclusive to {@code maxCents}
+     * exclusive.
+     */
+    public void filterByPrice(long minCents, long maxCents) {
+        isPriceFiltered = true;
+        this.minCents = Math.max(this.minCents, minCents);
+        this.maxCents = Math.min(this.maxCents, maxCents);
+        isQueryStale = true;
+        refresh();
+    }
+
+    /**
+     * Orders the view by {@code key}, replacing any previous order. Items that tie keep their order in the menu
+     * when {@code ascending}, and are reversed otherwise.
+     */
+    public void sortBy(MenuSortKey key, boolean ascending) {
+        requireNonNull(key);
+        sortKey = key;
+        isAscending = ascending;
+        refresh();
+    }
+
+    /**
+     * Shows all menu items in their original order again.
+     */
+    public void reset() {
+        keywordGroups.clear();
+        isPriceFiltered = false;
+        minCents = Long.MIN_VALUE;
+        maxCents = Long.MAX_VALUE;
+        queryMatches = null;
+        priceSlice = null;
+        filters.clear();
+        verdicts = new IdentityHashMap<>();
+        sortKey = null;
+        refresh();
+    }
+
+    /**
+     * Stops the view from following changes to the menu. The view must not be used afterwards.
+     */
+    public void dispose() {
+        menuManager.getMenuItemList().removeListener(menuListener);
+    }
+
+    /**
+     * Returns the menu items in the view as an unmodifiable {@code ObservableList} that stays up to date as the
+     * view changes.
+     */
+    public ObservableList<MenuItem> asUnmodifiableObservableList() {
+        return unmodifiableItems;
+    }
+
+    private void refresh() {
+        if (isQueryStale) {
+            queryMatches = searchMenu();
+            priceSlice = queryMatches == null && isPriceFiltered
+                    ? menuManager.getMenuItemsInPriceRange(minCents, maxCents)
+                    : null;
+            isQueryStale = false;
+        }
+        List<MenuItem> ordered;
+        if (queryMatches != null) {
+            ordered = menuManager.orderMenuItems(queryMatches, sortKey);
+        } else if (priceSlice != null && (sortKey == null || sortKey == MenuSortKey.PRICE)) {
+            // The slice is already in ascending order of price.
+            ordered = priceSlice;
+        } else if (priceSlice != null) {
+            ordered = menuManager.orderMenuItems(priceSlice, sortKey);
+        } else if (sortKey == null) {
+            ordered = menuManager.getMenuItemList();
+        } else {
+            ordered = menuManager.getSortedMenuItems(sortKey);
+        }
+        int size = ordered.size();
+        List<MenuItem> shown = new ArrayList<>(size);
+        Map<MenuItem, Boolean> newVerdicts = filters.isEmpty() ? verdicts : new IdentityHashMap<>();
+        for (int i = 0; i < size; i++) {
+            MenuItem item = ordered.get(sortKey == null || isAscending ? i : size - 1 - i);
+            if (filters.isEmpty() || isMatch(item, newVerdicts)) {
+                shown.add(item);
+            }
+        }
+        verdicts = newVerdicts;
+        items.setAll(shown);
+    }
+
+    /**
+     * Returns the menu items that match every find so far and the price range, or null if there has been no find.
+     */
+    private Set<MenuItem> searchMenu() {
+        if (keywordGroups.isEmpty()) {
+            return null;
+        }
+        Set<MenuItem> matches = isPriceFiltered
+                ? menuManager.search(keywordGroups.get(0), minCents, maxCents)
+                : menuManager.search(keywordGroups.get(0));
+        for (int i = 1; i < keywordGroups.size() && !matches.isEmpty(); i++) {
+            matches.retainAll(menuManager.search(keywordGroups.get(i)));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns whether {@code item} satisfies the filters, testing it only if it has not been tested yet, and
+     * records the verdict in {@code newVerdicts}.
+     */
+    private boolean isMatch(MenuItem item, Map<MenuItem, Boolean> newVerdicts) {
+        Boolean verdict = verdicts.get(item);
+        if (verdict == null) {
+            verdict = satisfiesFilters(item);
+        }
+        newVerdicts.put(item, verdict);
+        return verdict;
+    }
+
+    private boolean satisfiesFilters(MenuItem item) {
+        for (Predicate<? super MenuItem> filter : filters) {
+            if (!filter.test(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -3,23 +3,43 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.food.Money;
 import seedu.address.model.order.exceptions.DuplicateOrderItemException;
 import seedu.address.model.order.exceptions.OrderItemNotFoundException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.vendor.Vendor;
 
+/**
+ * A list of OrderItems that does not allow two items with the same description (name and price).
+ * Each item's position in the list is also indexed by its description, so lookups, merges and removals
+ * do not need to scan the list, and the total and per-tag subtotals are kept up to date in cents as items change.
+ * Removing an orderItem other than the last still takes O(n) time, as the positions of the later items are
+ * refreshed; see {@link #reindexFrom(int)}.
+ * Listeners of the list are told only which items changed, and changes made between {@link #beginChanges()} and
+ * {@link #endChanges()} are told as one.
+ */
 public class Order implements Iterable<OrderItem> {
     protected Vendor vendor;
 
-    private final ObservableList<OrderItem> internalList = FXCollections.observableArrayList();
+    private final OrderItemList internalList = new OrderItemList();
     private final ObservableList<OrderItem> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<ItemKey, Integer> positions = new HashMap<>();
+    private final Map<ItemKey, Subtotal> accounted = new HashMap<>();
+    private final Map<Tag, Long> tagSubtotalCents = new HashMap<>();
+    private final ReadOnlyLongWrapper totalCents = new ReadOnlyLongWrapper();
 
     public void setVendor(Vendor vendor) {
         this.vendor = vendor;
@@ -30,7 +50,7 @@ public class Order implements Iterable<OrderItem> {
      */
     public boolean contains(OrderItem toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrderItemDescription);
+        return positions.containsKey(ItemKey.of(toCheck));
     }
 
     /**
@@ -54,14 +74,14 @@ public class Order implements Iterable<OrderItem> {
             throw new IllegalArgumentException();
         }
         assert(newQuantity <= 100);
-        if (contains(toAdd)) {
-            int index = internalList.indexOf(toAdd);
+        Integer index = positions.get(ItemKey.of(toAdd));
+        if (index != null) {
             OrderItem existingItem = internalList.get(index);
             toAdd.setQuantity(newQuantity);
             toAdd.setTags(existingItem.getTags());
-            setOrderItem(existingItem, toAdd);
+            replaceAt(index, toAdd);
         } else {
-            internalList.add(toAdd);
+            insertAt(internalList.size(), toAdd);
         }
     }
 
@@ -83,8 +103,8 @@ public class Order implements Iterable<OrderItem> {
     public void setOrderItem(OrderItem target, OrderItem editedOrderItem) {
         requireAllNonNull(target, editedOrderItem);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(ItemKey.of(target));
+        if (index == null) {
             throw new OrderItemNotFoundException();
         }
 
@@ -92,7 +112,7 @@ public class Order implements Iterable<OrderItem> {
             throw new DuplicateOrderItemException();
         }
 
-        internalList.set(index, editedOrderItem);
+        replaceAt(index, editedOrderItem);
     }
 
     /**
@@ -101,10 +121,10 @@ public class Order implements Iterable<OrderItem> {
      */
     public void remove(OrderItem toRemove) {
         requireNonNull(toRemove);
-        if (!contains(toRemove)) {
+        Integer index = positions.get(ItemKey.of(toRemove));
+        if (index == null) {
             throw new OrderItemNotFoundException();
         }
-        int index = internalList.indexOf(toRemove);
 
         OrderItem existingItem = internalList.get(index);
         int currQty = existingItem.getQuantity();
@@ -112,33 +132,90 @@ public class Order implements Iterable<OrderItem> {
 
         if (!OrderItem.isValidQuantity(newQty)) {
             // Remove all
-            internalList.remove(toRemove);
+            removeAt(index);
+            reindexFrom(index);
         } else {
             // Reduce
-            OrderItem reduce = new OrderItem(toRemove, newQty);
-            setOrderItem(existingItem, reduce);
+            replaceAt(index, new OrderItem(toRemove, newQty));
         }
     }
 
     public void setOrder(Order replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList, replacement.positions);
     }
 
     public void setOrderItems(List<OrderItem> orderItems) {
         requireAllNonNull(orderItems);
-        if (!orderItemsAreUnique(orderItems)) {
+        Map<ItemKey, Integer> newPositions = positionsOf(orderItems);
+        if (newPositions == null) {
             throw new DuplicateOrderItemException();
         }
-        internalList.setAll(orderItems);
+        replaceAll(orderItems, newPositions);
     }
 
     public double getTotal() {
-        double total = 0;
-        for (OrderItem orderItem: internalList) {
-            total += orderItem.getQuantity() * orderItem.getPrice();
+        return totalCents.get() / 100.0;
+    }
+
+    /**
+     * Returns the total cost of the order in cents.
+     */
+    public long getTotalCents() {
+        return totalCents.get();
+    }
+
+    /**
+     * Returns the total cost of the order in cents as a property that is updated whenever the order changes.
+     */
+    public ReadOnlyLongProperty totalCentsProperty() {
+        return totalCents.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the total cost in cents of the orderItems tagged with {@code tag}.
+     */
+    public long getTagSubtotalCents(Tag tag) {
+        requireNonNull(tag);
+        return tagSubtotalCents.getOrDefault(tag, 0L);
+    }
+
+    /**
+     * Returns the position of the orderItem with the same description as {@code orderItem}, or -1 if there is none.
+     */
+    int indexOf(OrderItem orderItem) {
+        requireNonNull(orderItem);
+        return positions.getOrDefault(ItemKey.of(orderItem), -1);
+    }
+
+    /**
+     * Replaces the {@code removeCount} orderItems starting at {@code index} with {@code toInsert}.
+     * Used to replay recorded changes, so the resulting list must not contain duplicate orderItems.
+     *
+     * @throws DuplicateOrderItemException if the whole list is replaced by orderItems that contain duplicates.
+     */
+    void splice(int index, int removeCount, List<OrderItem> toInsert) {
+        requireNonNull(toInsert);
+        assert index >= 0 && index + removeCount <= internalList.size();
+        if (removeCount == internalList.size()) {
+            Map<ItemKey, Integer> newPositions = positionsOf(toInsert);
+            if (newPositions == null) {
+                throw new DuplicateOrderItemException();
+            }
+            replaceAll(toInsert, newPositions);
+            return;
         }
-        return total;
+        if (removeCount == 1 && toInsert.size() == 1) {
+            replaceAt(index, toInsert.get(0));
+            return;
+        }
+        for (int i = 0; i < removeCount; i++) {
+            removeAt(index);
+        }
+        for (int i = 0; i < toInsert.size(); i++) {
+            insertAt(index + i, toInsert.get(i));
+        }
+        reindexFrom(index);
     }
 
     @Override
@@ -150,6 +227,21 @@ public class Order implements Iterable<OrderItem> {
         return text.toString();
     }
 
+    /**
+     * Holds back reports of changes to the orderItems until the matching {@link #endChanges()}, so that listeners
+     * see every change made in between as one. Scopes may be nested.
+     */
+    public void beginChanges() {
+        internalList.beginChanges();
+    }
+
+    /**
+     * Ends a scope started by {@link #beginChanges()}, reporting the changes made in it if it is the outermost.
+     */
+    public void endChanges() {
+        internalList.endChanges();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -173,12 +265,8 @@ public class Order implements Iterable<OrderItem> {
      */
     public int getQuantity(OrderItem orderItem) {
         requireNonNull(orderItem);
-        try {
-            OrderItem foundItem = getOrderItem(orderItem.getName());
-            return foundItem.getQuantity();
-        } catch (OrderItemNotFoundException e) {
-            return 0;
-        }
+        Integer index = positions.get(ItemKey.of(orderItem));
+        return index == null ? 0 : internalList.get(index).getQuantity();
     }
 
     @Override
@@ -194,17 +282,115 @@ public class Order implements Iterable<OrderItem> {
     }
 
     /**
-     * Returns true if {@code orderItems} contains only unique orderItems.
+     * Returns the position of every orderItem in {@code orderItems} keyed by its description,
+     * or null if {@code orderItems} contains two orderItems with the same description.
+     */
+    private static Map<ItemKey, Integer> positionsOf(List<OrderItem> orderItems) {
+        Map<ItemKey, Integer> index = new HashMap<>();
+        for (int i = 0; i < orderItems.size(); i++) {
+            if (index.put(ItemKey.of(orderItems.get(i)), i) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Inserts {@code orderItem} at {@code index}, indexing and accounting for it.
+     * Callers inserting before the end of the list must call {@link #reindexFrom(int)} afterwards.
+     */
+    private void insertAt(int index, OrderItem orderItem) {
+        positions.put(ItemKey.of(orderItem), index);
+        credit(orderItem);
+        internalList.insert(index, orderItem);
+    }
+
+    /**
+     * Replaces the orderItem at {@code index} with {@code orderItem}, re-indexing and re-accounting for it.
      */
-    private boolean orderItemsAreUnique(List<OrderItem> orderItems) {
-        for (int i = 0; i < orderItems.size() - 1; i++) {
-            for (int j = i + 1; j < orderItems.size(); j++) {
-                if (orderItems.get(i).isSameOrderItemDescription(orderItems.get(j))) {
-                    return false;
-                }
+    private void replaceAt(int index, OrderItem orderItem) {
+        ItemKey oldKey = ItemKey.of(internalList.get(index));
+        positions.remove(oldKey);
+        debit(oldKey);
+        positions.put(ItemKey.of(orderItem), index);
+        credit(orderItem);
+        internalList.replace(index, orderItem);
+    }
+
+    /**
+     * Removes the orderItem at {@code index} from the list, the index and the totals.
+     * Callers must call {@link #reindexFrom(int)} afterwards.
+     */
+    private void removeAt(int index) {
+        ItemKey key = ItemKey.of(internalList.get(index));
+        positions.remove(key);
+        debit(key);
+        internalList.delete(index);
+    }
+
+    /**
+     * Replaces the whole list with {@code orderItems}, whose positions are already indexed in {@code newPositions}.
+     */
+    private void replaceAll(List<OrderItem> orderItems, Map<ItemKey, Integer> newPositions) {
+        accounted.clear();
+        tagSubtotalCents.clear();
+        long total = 0;
+        for (OrderItem orderItem : orderItems) {
+            total += account(orderItem);
+        }
+        positions.clear();
+        positions.putAll(newPositions);
+        internalList.replaceAll(orderItems);
+        totalCents.set(total);
+    }
+
+    /**
+     * Adds the cost of {@code orderItem} to the totals.
+     */
+    private void credit(OrderItem orderItem) {
+        totalCents.set(totalCents.get() + account(orderItem));
+    }
+
+    /**
+     * Removes the cost recorded for the orderItem identified by {@code key} from the totals.
+     */
+    private void debit(ItemKey key) {
+        Subtotal subtotal = accounted.remove(key);
+        for (Tag tag : subtotal.tags) {
+            long remaining = tagSubtotalCents.get(tag) - subtotal.cents;
+            if (remaining == 0) {
+                tagSubtotalCents.remove(tag);
+            } else {
+                tagSubtotalCents.put(tag, remaining);
             }
         }
-        return true;
+        totalCents.set(totalCents.get() - subtotal.cents);
+    }
+
+    /**
+     * Records the cost of {@code orderItem} and adds it to the tag subtotals, returning the cost.
+     * The cost and tags are copied, as orderItems are mutable.
+     */
+    private long account(OrderItem orderItem) {
+        Subtotal subtotal = new Subtotal(orderItem.getPrice().times(orderItem.getQuantity()).getCents(),
+                new HashSet<>(orderItem.getTags()));
+        accounted.put(ItemKey.of(orderItem), subtotal);
+        for (Tag tag : subtotal.tags) {
+            tagSubtotalCents.merge(tag, subtotal.cents, Long::sum);
+        }
+        return subtotal.cents;
+    }
+
+    /**
+     * Refreshes the indexed positions of the orderItems from {@code start} onwards after a removal.
+     * This is O(n), but so is the removal itself, as the backing array list shifts the same later items down.
+     * An order holds at most one orderItem per menu item, so n stays small, while adds, merges and lookups,
+     * which happen far more often than removals, stay O(1).
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(ItemKey.of(internalList.get(i)), i);
+        }
     }
 
     /**
@@ -224,4 +410,47 @@ public class Order implements Iterable<OrderItem> {
         newOrderItem.setTags(new HashSet<>());
         setOrderItem(orderItem, newOrderItem);
     }
+
+    /**
+     * Identifies an OrderItem by its description (name and price), ignoring its mutable quantity and tags.
+     */
+    private static final class ItemKey {
+        private final String name;
+        private final Money price;
+
+        private ItemKey(String name, Money price) {
+            this.name = name;
+            this.price = price;
+        }
+
+        static ItemKey of(OrderItem orderItem) {
+            return new ItemKey(orderItem.getName(), orderItem.getPrice());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof ItemKey
+                    && name.equals(((ItemKey) other).name)
+                    && price.equals(((ItemKey) other).price));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, price);
+        }
+    }
+
+    /**
+     * The cost and tags of an orderItem at the time it was added to the totals.
+     */
+    private static final class Subtotal {
+        private final long cents;
+        private final Set<Tag> tags;
+
+        private Subtotal(long cents, Set<Tag> tags) {
+            this.cents = cents;
+            this.tags = tags;
+        }
+    }
 }
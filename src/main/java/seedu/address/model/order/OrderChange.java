@@ -0,0 +1,100 @@
+package seedu.address.model.order;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Records a single change to an {@code Order} as a splice: the orderItems {@code removed} from position
+ * {@code index} and the orderItems {@code added} in their place.
+ * Only the affected orderItems are kept, so a change costs memory proportional to what it touched.
+ */
+class OrderChange {
+    // Rough per-object costs on a 64-bit JVM, used to estimate the footprint of the history.
+    private static final long CHANGE_OVERHEAD = 64;
+    private static final long ORDER_ITEM_OVERHEAD = 96;
+    private static final long TAG_OVERHEAD = 64;
+
+    private final int index;
+    private final List<OrderItem> removed;
+    private final List<OrderItem> added;
+    private final long footprint;
+
+    /**
+     * Every field must be present and not null. The orderItems are copied.
+     */
+    OrderChange(int index, List<OrderItem> removed, List<OrderItem> added) {
+        requireAllNonNull(removed, added);
+        this.index = index;
+        this.removed = copyOf(removed);
+        this.added = copyOf(added);
+        this.footprint = CHANGE_OVERHEAD + estimateSize(this.removed) + estimateSize(this.added);
+    }
+
+    /**
+     * Reverts this change on {@code order}, which must be in the state right after the change was made.
+     */
+    void undo(Order order) {
+        order.splice(index, added.size(), copyOf(removed));
+    }
+
+    /**
+     * Reapplies this change on {@code order}, which must be in the state right before the change was made.
+     */
+    void redo(Order order) {
+        order.splice(index, removed.size(), copyOf(added));
+    }
+
+    /**
+     * Returns the journal entry that reapplies this change.
+     */
+    OrderJournalEntry toJournalEntry() {
+        return OrderJournalEntry.change(index, removed, added);
+    }
+
+    /**
+     * Returns the change that {@code entry}, a {@code CHANGE} entry, reapplies.
+     */
+    static OrderChange fromJournalEntry(OrderJournalEntry entry) {
+        assert entry.getType() == OrderJournalEntry.Type.CHANGE;
+        return new OrderChange(entry.getIndex(), entry.getRemoved(), entry.getAdded());
+    }
+
+    /**
+     * Returns true if this change can be reapplied on {@code order}, which is in the state right before it.
+     */
+    boolean canRedo(Order order) {
+        List<OrderItem> orderItems = order.asUnmodifiableObservableList();
+        return index >= 0 && index + removed.size() <= orderItems.size()
+                && orderItems.subList(index, index + removed.size()).equals(removed);
+    }
+
+    /**
+     * Returns the estimated number of bytes held by this change.
+     */
+    long getFootprint() {
+        return footprint;
+    }
+
+    private static List<OrderItem> copyOf(List<OrderItem> orderItems) {
+        List<OrderItem> copies = new ArrayList<>(orderItems.size());
+        for (OrderItem orderItem : orderItems) {
+            copies.add(orderItem.makeCopy());
+        }
+        return copies;
+    }
+
+    private static long estimateSize(List<OrderItem> orderItems) {
+        long size = 0;
+        for (OrderItem orderItem : orderItems) {
+            size += ORDER_ITEM_OVERHEAD + 2L * orderItem.getName().length();
+            for (Tag tag : orderItem.getTags()) {
+                size += TAG_OVERHEAD + 2L * tag.tagName.length();
+            }
+        }
+        return size;
+    }
+}
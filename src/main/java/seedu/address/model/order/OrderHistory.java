@@ -0,0 +1,144 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Keeps the changes made to an {@code Order} so that they can be undone and redone.
+ * The oldest changes are dropped once more than {@code maxDepth} changes are kept, or once the changes
+ * take up more than {@code memoryBudget} bytes. The latest change is always kept, even if it alone takes up more
+ * than {@code memoryBudget} bytes, so that it can still be undone.
+ */
+public class OrderHistory {
+    public static final int DEFAULT_MAX_DEPTH = 100;
+    public static final long DEFAULT_MEMORY_BUDGET = 512 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(OrderHistory.class);
+
+    private final Deque<OrderChange> undoStack = new ArrayDeque<>();
+    private final Deque<OrderChange> redoStack = new ArrayDeque<>();
+    private final int maxDepth;
+    private final long memoryBudget;
+    private long footprint;
+
+    public OrderHistory() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates an {@code OrderHistory} keeping at most {@code maxDepth} changes within {@code memoryBudget} bytes.
+     */
+    public OrderHistory(int maxDepth, long memoryBudget) {
+        if (maxDepth < 0 || memoryBudget < 0) {
+            throw new IllegalArgumentException("History depth and memory budget must not be negative.");
+        }
+        this.maxDepth = maxDepth;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Records {@code change} as the latest change. Any undone changes can no longer be redone.
+     */
+    void record(OrderChange change) {
+        requireNonNull(change);
+        redoStack.forEach(redoable -> footprint -= redoable.getFootprint());
+        redoStack.clear();
+        undoStack.push(change);
+        footprint += change.getFootprint();
+
+        int dropped = 0;
+        while (undoStack.size() > maxDepth || (undoStack.size() > 1 && footprint > memoryBudget)) {
+            footprint -= undoStack.removeLast().getFootprint();
+            dropped++;
+        }
+        if (dropped > 0) {
+            logger.fine("Dropped " + dropped + " oldest order change(s) to stay within the history limits");
+        }
+        if (footprint > memoryBudget) {
+            logger.info("Keeping the latest order change of ~" + footprint / 1024 + " KB, which is over the "
+                    + "history budget of " + memoryBudget / 1024 + " KB");
+        }
+        logger.fine("Order history: " + this);
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Undoes the latest change on {@code order}. There must be a change to undo.
+     */
+    void undo(Order order) {
+        assert canUndo();
+        OrderChange change = undoStack.pop();
+        change.undo(order);
+        redoStack.push(change);
+    }
+
+    /**
+     * Redoes the latest undone change on {@code order}. There must be a change to redo.
+     */
+    void redo(Order order) {
+        assert canRedo();
+        OrderChange change = redoStack.pop();
+        change.redo(order);
+        undoStack.push(change);
+    }
+
+    /**
+     * Forgets all recorded changes.
+     */
+    void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        footprint = 0;
+    }
+
+    /**
+     * Returns the journal entries that rebuild this history and {@code order}, which must be in the state after
+     * the latest change: a snapshot of the order before the oldest kept change, every kept change in the order
+     * they were made, then an undo for each change that can be redone.
+     */
+    List<OrderJournalEntry> toJournalEntries(Order order) {
+        Order base = order.makeCopy();
+        undoStack.forEach(change -> change.undo(base));
+
+        List<OrderJournalEntry> entries = new ArrayList<>();
+        entries.add(OrderJournalEntry.snapshot(base.asUnmodifiableObservableList()));
+        undoStack.descendingIterator().forEachRemaining(change -> entries.add(change.toJournalEntry()));
+        redoStack.forEach(change -> entries.add(change.toJournalEntry()));
+        redoStack.forEach(change -> entries.add(OrderJournalEntry.undo()));
+        return entries;
+    }
+
+    /**
+     * Returns the number of changes that can be undone.
+     */
+    public int size() {
+        return undoStack.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes held by the recorded changes.
+     */
+    public long getFootprint() {
+        return footprint;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d undoable, %d redoable, ~%.1f KB",
+                undoStack.size(), redoStack.size(), footprint / 1024.0);
+    }
+}
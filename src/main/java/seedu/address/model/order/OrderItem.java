@@ -8,6 +8,7 @@ import java.util.Set;
 
 import seedu.address.model.food.Food;
 import seedu.address.model.food.MenuItem;
+import seedu.address.model.food.Money;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -21,12 +22,19 @@ public class OrderItem extends Food {
     /**
      * Every field must be present and not null.
      */
-    public OrderItem(String name, double price, Set<Tag> tags, int quantity) {
+    public OrderItem(String name, Money price, Set<Tag> tags, int quantity) {
         super(name, price, tags);
         requireAllNonNull(quantity);
         this.quantity = quantity;
     }
 
+    /**
+     * Alternative constructor that takes the price in dollars, which must have at most 2 decimal places.
+     */
+    public OrderItem(String name, double price, Set<Tag> tags, int quantity) {
+        this(name, Money.of(price), tags, quantity);
+    }
+
     /**
      * Alternative constructor that takes in a menu item and quantity. Every field must be present and not null.
      */
@@ -72,7 +80,7 @@ public class OrderItem extends Food {
 
         return orderItem != null
                 && orderItem.getName().equals(getName())
-                && (orderItem.getPrice() == (getPrice()))
+                && orderItem.getPrice().equals(getPrice())
                 && (orderItem.getQuantity() == getQuantity())
                 && (orderItem.getTags().equals(getTags()));
     }
@@ -88,7 +96,7 @@ public class OrderItem extends Food {
 
         return orderItem != null
                 && orderItem.getName().equals(getName())
-                && (orderItem.getPrice() == (getPrice()));
+                && orderItem.getPrice().equals(getPrice());
     }
 
     /**
@@ -117,7 +125,7 @@ public class OrderItem extends Food {
 
         OrderItem otherFood = (OrderItem) other;
         return otherFood.getName().equals(getName())
-                && otherFood.getPrice() == getPrice();
+                && otherFood.getPrice().equals(getPrice());
     }
 
     @Override
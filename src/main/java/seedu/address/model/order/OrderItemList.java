@@ -0,0 +1,143 @@
+package seedu.address.model.order;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * The orderItems of an {@code Order}, which reports each change to its listeners as the smallest change that
+ * explains it: an orderItem added, removed or replaced, or a range of orderItems reordered.
+ * Changes made between {@link #beginChanges()} and the matching {@link #endChanges()} are reported together as
+ * one change once the outermost scope ends, while the list itself always shows the latest orderItems.
+ */
+class OrderItemList extends ObservableListBase<OrderItem> {
+
+    private final List<OrderItem> items = new ArrayList<>();
+
+    @Override
+    public OrderItem get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Holds back reports of changes until the matching {@link #endChanges()}. Scopes may be nested.
+     */
+    void beginChanges() {
+        beginChange();
+    }
+
+    /**
+     * Ends a scope started by {@link #beginChanges()}, reporting the changes made in it if it is the outermost.
+     */
+    void endChanges() {
+        endChange();
+    }
+
+    void insert(int index, OrderItem orderItem) {
+        items.add(index, orderItem);
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    void replace(int index, OrderItem orderItem) {
+        OrderItem old = items.set(index, orderItem);
+        beginChange();
+        nextSet(index, old);
+        endChange();
+    }
+
+    void delete(int index) {
+        OrderItem old = items.remove(index);
+        beginChange();
+        nextRemove(index, old);
+        endChange();
+    }
+
+    /**
+     * Replaces the orderItems with {@code orderItems}, reporting only the range of orderItems that differ.
+     * A range that only holds the same orderItems in another order is reported as reordered, and a range of the
+     * same length as the orderItems it replaces is reported one replaced orderItem at a time.
+     */
+    void replaceAll(List<OrderItem> orderItems) {
+        int oldSize = items.size();
+        int newSize = orderItems.size();
+        int minSize = Math.min(oldSize, newSize);
+        int start = 0;
+        while (start < minSize && isSame(items.get(start), orderItems.get(start))) {
+            start++;
+        }
+        int suffix = 0;
+        while (suffix < minSize - start
+                && isSame(items.get(oldSize - 1 - suffix), orderItems.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+        int oldEnd = oldSize - suffix;
+        int newEnd = newSize - suffix;
+
+        beginChange();
+        List<OrderItem> removed = new ArrayList<>(items.subList(start, oldEnd));
+        List<OrderItem> added = orderItems.subList(start, newEnd);
+        int[] permutation = permutationOf(removed, added, start);
+        // Unchanged orderItems may still be other but identical instances, which are taken over silently.
+        items.clear();
+        items.addAll(orderItems);
+
+        if (removed.isEmpty() && added.isEmpty()) {
+            // Nothing to report.
+        } else if (permutation != null) {
+            nextPermutation(start, oldEnd, permutation);
+        } else if (removed.size() == added.size()) {
+            for (int i = 0; i < removed.size(); i++) {
+                if (!isSame(removed.get(i), added.get(i))) {
+                    nextSet(start + i, removed.get(i));
+                }
+            }
+        } else if (removed.isEmpty()) {
+            nextAdd(start, newEnd);
+        } else if (added.isEmpty()) {
+            nextRemove(start, removed);
+        } else {
+            nextReplace(start, newEnd, removed);
+        }
+        endChange();
+    }
+
+    private static boolean isSame(OrderItem oldItem, OrderItem newItem) {
+        return oldItem == newItem || oldItem.isSameOrderItem(newItem);
+    }
+
+    /**
+     * Returns where each of {@code oldItems}, which started at {@code offset}, moved to if {@code newItems} holds
+     * the same orderItems in another order, or null otherwise.
+     */
+    private static int[] permutationOf(List<OrderItem> oldItems, List<OrderItem> newItems, int offset) {
+        if (oldItems.size() != newItems.size() || oldItems.size() < 2) {
+            return null;
+        }
+        Map<List<Object>, Integer> newPositions = new HashMap<>();
+        for (int i = 0; i < newItems.size(); i++) {
+            newPositions.put(List.of(newItems.get(i).getName(), newItems.get(i).getPrice()), offset + i);
+        }
+        int[] permutation = new int[oldItems.size()];
+        boolean isMoved = false;
+        for (int i = 0; i < oldItems.size(); i++) {
+            OrderItem oldItem = oldItems.get(i);
+            Integer newPosition = newPositions.get(List.of(oldItem.getName(), oldItem.getPrice()));
+            if (newPosition == null || !isSame(oldItem, newItems.get(newPosition - offset))) {
+                return null;
+            }
+            permutation[i] = newPosition;
+            isMoved |= newPosition != offset + i;
+        }
+        return isMoved ? permutation : null;
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.model.order;
+
+import java.util.List;
+
+/**
+ * Keeps a durable record of the steps taken by an {@code OrderManager}, so that an order survives the app
+ * stopping unexpectedly.
+ * A journal reports its own failures, as losing the journal must never stop the order from being changed.
+ */
+public interface OrderJournal {
+
+    /**
+     * Records {@code entry} after all entries recorded so far.
+     */
+    void append(OrderJournalEntry entry);
+
+    /**
+     * Returns true if the journal has grown enough that it should be rewritten with {@link #compact}.
+     */
+    boolean needsCompaction();
+
+    /**
+     * Replaces every entry recorded so far with {@code entries}, which must rebuild the same order and history.
+     */
+    void compact(List<OrderJournalEntry> entries);
+}
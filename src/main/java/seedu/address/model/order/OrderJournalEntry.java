@@ -0,0 +1,117 @@
+package seedu.address.model.order;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records one step in the life of an order, so that the order and its history can be rebuilt by replaying the
+ * steps in the order they were taken.
+ * Guarantees: immutable.
+ */
+public final class OrderJournalEntry {
+
+    /**
+     * The kinds of steps that are journalled.
+     */
+    public enum Type {
+        /** Replaces the whole order with the added orderItems, without recording any history. */
+        SNAPSHOT,
+        /** Splices the added orderItems in place of the removed ones at the index, recording the change. */
+        CHANGE,
+        /** Undoes the latest change. */
+        UNDO,
+        /** Redoes the latest undone change. */
+        REDO,
+        /** Clears the order along with its history. */
+        RESET,
+        /** Places the order with the vendor at the index. */
+        VENDOR
+    }
+
+    private static final OrderJournalEntry UNDO = new OrderJournalEntry(Type.UNDO, 0, List.of(), List.of());
+    private static final OrderJournalEntry REDO = new OrderJournalEntry(Type.REDO, 0, List.of(), List.of());
+    private static final OrderJournalEntry RESET = new OrderJournalEntry(Type.RESET, 0, List.of(), List.of());
+
+    private final Type type;
+    private final int index;
+    private final List<OrderItem> removed;
+    private final List<OrderItem> added;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public OrderJournalEntry(Type type, int index, List<OrderItem> removed, List<OrderItem> added) {
+        requireAllNonNull(type, removed, added);
+        this.type = type;
+        this.index = index;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    public static OrderJournalEntry snapshot(List<OrderItem> orderItems) {
+        return new OrderJournalEntry(Type.SNAPSHOT, 0, List.of(), orderItems);
+    }
+
+    public static OrderJournalEntry change(int index, List<OrderItem> removed, List<OrderItem> added) {
+        return new OrderJournalEntry(Type.CHANGE, index, removed, added);
+    }
+
+    public static OrderJournalEntry undo() {
+        return UNDO;
+    }
+
+    public static OrderJournalEntry redo() {
+        return REDO;
+    }
+
+    public static OrderJournalEntry reset() {
+        return RESET;
+    }
+
+    public static OrderJournalEntry vendor(int vendorIndex) {
+        return new OrderJournalEntry(Type.VENDOR, vendorIndex, List.of(), List.of());
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<OrderItem> getRemoved() {
+        return removed;
+    }
+
+    public List<OrderItem> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof OrderJournalEntry)) {
+            return false;
+        }
+        OrderJournalEntry otherEntry = (OrderJournalEntry) other;
+        return type == otherEntry.type
+                && index == otherEntry.index
+                && removed.equals(otherEntry.removed)
+                && added.equals(otherEntry.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return type + " at " + index + ": -" + removed.size() + " +" + added.size();
+    }
+}
@@ -4,8 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,23 +17,22 @@ import seedu.address.model.tag.Tag;
  */
 public class OrderManager implements ReadOnlyOrderManager {
 
-    private final Stack<Order> orderHistory; // head of orderHistory
-    private final Order order;
+    private final OrderHistory orderHistory;
+    private final Order order = new Order();
+    private int vendorIndex = -1;
+    private OrderJournal journal;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        orderHistory = new Stack<>();
-        order = new Order();
-        saveChanges();
+    public OrderManager() {
+        this(new OrderHistory());
     }
 
-    public OrderManager() {}
+    /**
+     * Creates an OrderManager that records its changes in {@code orderHistory}.
+     */
+    public OrderManager(OrderHistory orderHistory) {
+        requireNonNull(orderHistory);
+        this.orderHistory = orderHistory;
+    }
 
     /**
      * Creates a OrderManager using the OrderItems in the {@code toBeCopied}
@@ -43,17 +42,154 @@ public class OrderManager implements ReadOnlyOrderManager {
         resetData(toBeCopied);
     }
 
-    private void saveChanges() {
-        orderHistory.add(order.makeCopy());
+    /**
+     * Applies {@code mutation}, which may only touch the orderItem with the same description as {@code target},
+     * and records the touched orderItem before and after so that the change can be undone.
+     */
+    private void changeOrderItem(OrderItem target, Runnable mutation) {
+        int oldSize = order.asUnmodifiableObservableList().size();
+        int index = order.indexOf(target);
+        if (index == -1) {
+            index = oldSize;
+        }
+        List<OrderItem> removed = slice(index, index < oldSize ? 1 : 0);
+
+        mutation.run();
+
+        int newSize = order.asUnmodifiableObservableList().size();
+        List<OrderItem> added = slice(index, removed.size() + newSize - oldSize);
+        record(new OrderChange(index, removed, added));
+    }
+
+    /**
+     * Records {@code change}, which has just been made, in the history and the journal.
+     */
+    private void record(OrderChange change) {
+        orderHistory.record(change);
+        journal(change.toJournalEntry());
+    }
+
+    /**
+     * Appends {@code entry} to the journal, if any, compacting the journal instead once it has grown enough.
+     */
+    private void journal(OrderJournalEntry entry) {
+        if (journal == null) {
+            return;
+        }
+        if (journal.needsCompaction()) {
+            journal.compact(toJournalEntries());
+        } else {
+            journal.append(entry);
+        }
+    }
+
+    /**
+     * Records every later change of this {@code OrderManager} in {@code journal}, which must already rebuild
+     * the current order and history, e.g. because it has just been replayed. A null journal records nothing.
+     */
+    public void setJournal(OrderJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Returns the fewest journal entries that rebuild the current order, its history and its vendor.
+     */
+    public List<OrderJournalEntry> toJournalEntries() {
+        List<OrderJournalEntry> entries = new ArrayList<>();
+        if (vendorIndex != -1) {
+            entries.add(OrderJournalEntry.vendor(vendorIndex));
+        }
+        entries.addAll(orderHistory.toJournalEntries(order));
+        return entries;
+    }
+
+    /**
+     * Applies {@code entries} in turn without journalling them again.
+     *
+     * @throws IllegalArgumentException if an entry does not fit the order it is applied to, in which case the
+     *     entries before it stay applied.
+     */
+    public void replay(Iterable<OrderJournalEntry> entries) {
+        requireNonNull(entries);
+        OrderJournal attachedJournal = journal;
+        journal = null;
+        try {
+            for (OrderJournalEntry entry : entries) {
+                apply(entry);
+            }
+        } finally {
+            journal = attachedJournal;
+        }
+    }
+
+    private void apply(OrderJournalEntry entry) {
+        switch (entry.getType()) {
+        case SNAPSHOT:
+            order.setOrderItems(entry.getAdded());
+            break;
+        case CHANGE:
+            OrderChange change = OrderChange.fromJournalEntry(entry);
+            if (!change.canRedo(order)) {
+                throw new IllegalArgumentException("Journalled change does not fit the order: " + entry);
+            }
+            change.redo(order);
+            orderHistory.record(change);
+            break;
+        case UNDO:
+            if (canUndo()) {
+                undoChanges();
+            }
+            break;
+        case REDO:
+            if (canRedo()) {
+                redoChanges();
+            }
+            break;
+        case RESET:
+            resetOrder();
+            break;
+        case VENDOR:
+            vendorIndex = entry.getIndex();
+            break;
+        default:
+            throw new AssertionError("Unknown journal entry type: " + entry.getType());
+        }
+    }
+
+    /**
+     * Returns copies of the {@code length} orderItems starting at {@code index}, so that later changes to the
+     * orderItems themselves do not leak into the history.
+     */
+    private List<OrderItem> slice(int index, int length) {
+        List<OrderItem> copies = new ArrayList<>(length);
+        for (int i = index; i < index + length; i++) {
+            copies.add(order.asUnmodifiableObservableList().get(i).makeCopy());
+        }
+        return copies;
     }
 
     /**
      * Undoes the last change to the order.
      */
     public void undoChanges() {
-        assert(orderHistory.size() > 1);
-        orderHistory.pop();
-        order.setOrder(orderHistory.peek().makeCopy());
+        orderHistory.undo(order);
+        journal(OrderJournalEntry.undo());
+    }
+
+    /**
+     * Redoes the last undone change to the order.
+     */
+    public void redoChanges() {
+        orderHistory.redo(order);
+        journal(OrderJournalEntry.redo());
+    }
+
+    public boolean canUndo() {
+        return orderHistory.canUndo();
+    }
+
+    public boolean canRedo() {
+        return orderHistory.canRedo();
     }
 
     //// list overwrite operations
@@ -63,17 +199,33 @@ public class OrderManager implements ReadOnlyOrderManager {
      * {@code orderItems} must not contain duplicate orderItems.
      */
     public void setOrder(List<OrderItem> orderItems) {
+        List<OrderItem> removed = slice(0, order.asUnmodifiableObservableList().size());
         this.order.setOrderItems(orderItems);
-        saveChanges();
+        record(new OrderChange(0, removed, orderItems));
     }
 
     /**
-     * Clears the contents of orderHistory.
+     * Clears the order along with its history.
      */
     public void resetOrder() {
-        this.orderHistory.clear();
         this.order.setOrderItems(new ArrayList<>());
-        saveChanges();
+        this.orderHistory.clear();
+        journal(OrderJournalEntry.reset());
+    }
+
+    /**
+     * Places the order with the vendor at {@code vendorIndex}, or with no vendor if it is -1.
+     */
+    public void setVendorIndex(int vendorIndex) {
+        if (this.vendorIndex == vendorIndex) {
+            return;
+        }
+        this.vendorIndex = vendorIndex;
+        journal(OrderJournalEntry.vendor(vendorIndex));
+    }
+
+    public int getVendorIndex() {
+        return vendorIndex;
     }
 
     /**
@@ -85,6 +237,21 @@ public class OrderManager implements ReadOnlyOrderManager {
         setOrder(newData.getOrderItemList());
     }
 
+    /**
+     * Holds back reports of changes to the orderItem list until the matching {@link #endChanges()}, so that its
+     * listeners see every change made in between as one. Scopes may be nested.
+     */
+    public void beginChanges() {
+        order.beginChanges();
+    }
+
+    /**
+     * Ends a scope started by {@link #beginChanges()}, reporting the changes made in it if it is the outermost.
+     */
+    public void endChanges() {
+        order.endChanges();
+    }
+
     //// orderItem-level operations
 
     /**
@@ -101,8 +268,7 @@ public class OrderManager implements ReadOnlyOrderManager {
      */
     public void addOrderItem(OrderItem orderItem) throws CommandException {
         try {
-            order.add(orderItem);
-            saveChanges();
+            changeOrderItem(orderItem, () -> order.add(orderItem));
         } catch (IllegalArgumentException e) {
             throw new CommandException(Messages.MESSAGE_ORDERITEM_QUANTITY_EXCEED);
         }
@@ -118,8 +284,7 @@ public class OrderManager implements ReadOnlyOrderManager {
     public void setOrderItem(OrderItem target, OrderItem editedOrderItem) {
         requireNonNull(editedOrderItem);
 
-        order.setOrderItem(target, editedOrderItem);
-        saveChanges();
+        changeOrderItem(target, () -> order.setOrderItem(target, editedOrderItem));
     }
 
     /**
@@ -127,14 +292,23 @@ public class OrderManager implements ReadOnlyOrderManager {
      * {@code key} must exist in the address book.
      */
     public void removeOrderItem(OrderItem key) {
-        order.remove(key);
-        saveChanges();
+        changeOrderItem(key, () -> order.remove(key));
     }
 
+    /**
+     * Returns the number of changes that can be undone.
+     */
     public int getOrderHistorySize() {
         return orderHistory.size();
     }
 
+    /**
+     * Returns the estimated number of bytes held by the undo and redo history.
+     */
+    public long getOrderHistoryFootprint() {
+        return orderHistory.getFootprint();
+    }
+
     //// util methods
 
     @Override
@@ -148,6 +322,20 @@ public class OrderManager implements ReadOnlyOrderManager {
         return order.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the total cost of the order in cents as a property that is updated whenever the order changes.
+     */
+    public ReadOnlyLongProperty totalCentsProperty() {
+        return order.totalCentsProperty();
+    }
+
+    /**
+     * Returns the total cost in cents of the orderItems tagged with {@code tag}.
+     */
+    public long getTagSubtotalCents(Tag tag) {
+        return order.getTagSubtotalCents(tag);
+    }
+
     public int getQuantity(int index) {
         return order.getQuantity(index);
     }
@@ -168,15 +356,13 @@ public class OrderManager implements ReadOnlyOrderManager {
      * Tags {@code orderItem} with {@code tag}.
      */
     public void tagOrderItem(OrderItem orderItem, Tag tag) {
-        order.tagOrderItem(orderItem, tag);
-        saveChanges();
+        changeOrderItem(orderItem, () -> order.tagOrderItem(orderItem, tag));
     }
 
     /**
      * Clears all tag of {@code orderItem}.
      */
     public void untagOrderItem(OrderItem orderItem) {
-        order.untagOrderItem(orderItem);
-        saveChanges();;
+        changeOrderItem(orderItem, () -> order.untagOrderItem(orderItem));
     }
 }
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.food.Food;
 import seedu.address.model.food.MenuItem;
+import seedu.address.model.food.Money;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -47,7 +48,7 @@ public class JsonAdaptedMenuItem {
      */
     public JsonAdaptedMenuItem(MenuItem source) {
         name = source.getName();
-        price = source.getPrice();
+        price = source.getPrice().toDouble();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -78,7 +79,7 @@ public class JsonAdaptedMenuItem {
         }
 
         final Set<Tag> modelTags = new HashSet<>(foodTags);
-        return new MenuItem(name, price, modelTags, filePath);
+        return new MenuItem(name, Money.of(price), modelTags, filePath);
     }
 
 }
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.food.Money;
 import seedu.address.model.order.OrderItem;
 import seedu.address.model.tag.Tag;
 
@@ -47,7 +48,7 @@ class JsonAdaptedOrderItem {
      */
     public JsonAdaptedOrderItem(OrderItem source) {
         name = source.getName();
-        price = source.getPrice();
+        price = source.getPrice().toDouble();
         quantity = source.getQuantity();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -79,7 +80,7 @@ class JsonAdaptedOrderItem {
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new OrderItem(name, price, modelTags, quantity);
+        return new OrderItem(name, Money.of(price), modelTags, quantity);
     }
 
 }
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.order.OrderItem;
+import seedu.address.model.order.OrderJournalEntry;
+
+/**
+ * Jackson-friendly version of {@link OrderJournalEntry}.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedOrderJournalEntry {
+
+    public static final String MISSING_TYPE_MESSAGE = "Journal entry's type field is missing!";
+    public static final String INVALID_TYPE_MESSAGE_FORMAT = "Journal entry has an unknown type: %s";
+
+    private final String type;
+    private final int index;
+    private final List<JsonAdaptedOrderItem> removed = new ArrayList<>();
+    private final List<JsonAdaptedOrderItem> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedOrderJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedOrderJournalEntry(@JsonProperty("type") String type, @JsonProperty("index") int index,
+            @JsonProperty("removed") List<JsonAdaptedOrderItem> removed,
+            @JsonProperty("added") List<JsonAdaptedOrderItem> added) {
+        this.type = type;
+        this.index = index;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code OrderJournalEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedOrderJournalEntry(OrderJournalEntry source) {
+        type = source.getType().name();
+        index = source.getIndex();
+        removed.addAll(source.getRemoved().stream().map(JsonAdaptedOrderItem::new).collect(Collectors.toList()));
+        added.addAll(source.getAdded().stream().map(JsonAdaptedOrderItem::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry into the model's {@code OrderJournalEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public OrderJournalEntry toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(MISSING_TYPE_MESSAGE);
+        }
+        OrderJournalEntry.Type modelType;
+        try {
+            modelType = OrderJournalEntry.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(INVALID_TYPE_MESSAGE_FORMAT, type));
+        }
+        return new OrderJournalEntry(modelType, index, toModelType(removed), toModelType(added));
+    }
+
+    private static List<OrderItem> toModelType(List<JsonAdaptedOrderItem> orderItems) throws IllegalValueException {
+        List<OrderItem> modelOrderItems = new ArrayList<>(orderItems.size());
+        for (JsonAdaptedOrderItem orderItem : orderItems) {
+            modelOrderItems.add(orderItem.toModelType());
+        }
+        return modelOrderItems;
+    }
+}
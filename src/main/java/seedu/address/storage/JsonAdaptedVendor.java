@@ -4,12 +4,15 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.food.MenuItem;
 import seedu.address.model.menu.Menu;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.vendor.Address;
@@ -24,12 +27,14 @@ import seedu.address.model.vendor.Vendor;
 class JsonAdaptedVendor {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Vendor's %s field is missing!";
+    public static final String MESSAGE_EMPTY_MENU = "Menu must not be empty.";
 
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private List<JsonAdaptedMenuItem> menu = new ArrayList<>();
 
     /**
@@ -56,6 +61,14 @@ class JsonAdaptedVendor {
      * Converts a given {@code Vendor} into this class for Jackson use.
      */
     public JsonAdaptedVendor(Vendor source) {
+        this(source, true);
+    }
+
+    /**
+     * Converts a given {@code Vendor} into this class for Jackson use, leaving out its menu unless
+     * {@code isMenuIncluded}, so that a menu kept elsewhere is not loaded.
+     */
+    JsonAdaptedVendor(Vendor source, boolean isMenuIncluded) {
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -63,7 +76,9 @@ class JsonAdaptedVendor {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        menu.addAll(source.getMenu().getMenuItems());
+        if (isMenuIncluded) {
+            menu.addAll(source.getMenu().getMenuItems());
+        }
         //TODO add a value in menu
     }
 
@@ -73,22 +88,53 @@ class JsonAdaptedVendor {
      * @throws IllegalValueException if there were any data constraints violated in the adapted vendor.
      */
     public Vendor toModelType() throws IllegalValueException {
-        final List<Tag> vendorTags = new ArrayList<>();
-        for (JsonAdaptedTag tag : tagged) {
-            vendorTags.add(tag.toModelType());
+        final Set<Tag> modelTags = toModelTags();
+        final List<MenuItem> menuItems = new ArrayList<>(menu.size());
+        for (JsonAdaptedMenuItem menuItem : menu) {
+            menuItems.add(menuItem.toModelType());
         }
         final Menu vendorMenu = new Menu();
-        for (JsonAdaptedMenuItem menuItem : menu) {
-            vendorMenu.add(menuItem.toModelType());
+        vendorMenu.addAll(menuItems);
+
+        checkFields();
+        if (menu == null || menu.size() == 0) {
+            // todo change error message
+            throw new IllegalValueException(MESSAGE_EMPTY_MENU);
         }
 
+        //TODO: check the menu
+        return new Vendor(new Name(name), new Phone(phone), new Email(email), new Address(address), modelTags,
+                vendorMenu);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted vendor object, whose menu is kept elsewhere, into the model's
+     * {@code Vendor} object with a menu that is only loaded by {@code menuLoader} when first needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted vendor.
+     */
+    Vendor toModelType(Supplier<Menu> menuLoader) throws IllegalValueException {
+        final Set<Tag> modelTags = toModelTags();
+        checkFields();
+        return new Vendor(new Name(name), new Phone(phone), new Email(email), new Address(address), modelTags,
+                menuLoader);
+    }
+
+    private Set<Tag> toModelTags() throws IllegalValueException {
+        final Set<Tag> vendorTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            vendorTags.add(tag.toModelType());
+        }
+        return vendorTags;
+    }
+
+    private void checkFields() throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -96,7 +142,6 @@ class JsonAdaptedVendor {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -104,7 +149,6 @@ class JsonAdaptedVendor {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -112,17 +156,6 @@ class JsonAdaptedVendor {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-
-        if (menu == null || menu.size() == 0) {
-            // todo change error message
-            throw new IllegalValueException("Menu must not be empty.");
-        }
-        final Address modelAddress = new Address(address);
-
-        final Set<Tag> modelTags = new HashSet<>(vendorTags);
-
-        //TODO: check the menu
-        return new Vendor(modelName, modelPhone, modelEmail, modelAddress, modelTags, vendorMenu);
     }
 
 }
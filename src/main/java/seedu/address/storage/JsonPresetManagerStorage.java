@@ -11,7 +11,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.preset.Preset;
 
@@ -20,9 +19,18 @@ public class JsonPresetManagerStorage implements PresetManagerStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonPresetManagerStorage.class);
 
     private Path filePath;
+    private final StorageWriter storageWriter;
 
     public JsonPresetManagerStorage(Path filePath) {
+        this(filePath, StorageWriter.createDirect());
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that saves through {@code storageWriter}.
+     */
+    public JsonPresetManagerStorage(Path filePath, StorageWriter storageWriter) {
         this.filePath = filePath;
+        this.storageWriter = storageWriter;
     }
 
     public Path getPresetManagerFilePath() {
@@ -42,6 +50,7 @@ public class JsonPresetManagerStorage implements PresetManagerStorage {
      */
     public Optional<List<List<Preset>>> readPresetManager(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
+        storageWriter.awaitPendingWrites();
 
         Optional<JsonSerializablePresetManager> jsonPresetManager = JsonUtil.readJsonFile(
                 filePath, JsonSerializablePresetManager.class);
@@ -62,8 +71,7 @@ public class JsonPresetManagerStorage implements PresetManagerStorage {
         requireNonNull(allPresets);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializablePresetManager(allPresets, true), filePath);
+        storageWriter.write(filePath, JsonUtil.toJsonBytes(new JsonSerializablePresetManager(allPresets, true)));
     }
 
     @Override
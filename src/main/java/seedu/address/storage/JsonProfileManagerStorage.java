@@ -9,7 +9,6 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.profile.Profile;
 
@@ -18,9 +17,22 @@ public class JsonProfileManagerStorage implements ProfileManagerStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonProfileManagerStorage.class);
 
     private Path filePath;
+    private final StorageWriter storageWriter;
+
+    // The profile in the file at filePath, once it has been read or saved. Guarded by this.
+    private Profile cachedProfile;
+    private boolean isProfileCached;
 
     public JsonProfileManagerStorage(Path filePath) {
+        this(filePath, StorageWriter.createDirect());
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that saves through {@code storageWriter}.
+     */
+    public JsonProfileManagerStorage(Path filePath, StorageWriter storageWriter) {
         this.filePath = filePath;
+        this.storageWriter = storageWriter;
     }
 
     public Path getProfileManagerFilePath() {
@@ -34,12 +46,27 @@ public class JsonProfileManagerStorage implements ProfileManagerStorage {
 
     /**
      * Similar to {@link #readProfileManager()}.
+     * The profile in the file of this storage is only read once, and kept in memory afterwards.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<Profile> readProfileManager(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return readProfileFile(filePath);
+        }
+        synchronized (this) {
+            if (!isProfileCached) {
+                cachedProfile = readProfileFile(filePath).orElse(null);
+                isProfileCached = true;
+            }
+            return Optional.ofNullable(cachedProfile);
+        }
+    }
+
+    private Optional<Profile> readProfileFile(Path filePath) throws DataConversionException {
+        storageWriter.awaitPendingWrites();
 
         Optional<JsonSerializableProfileManager> jsonProfileManager = JsonUtil.readJsonFile(
                 filePath,
@@ -57,12 +84,25 @@ public class JsonProfileManagerStorage implements ProfileManagerStorage {
         saveProfileManager(profile, filePath);
     }
 
+    /**
+     * Similar to {@link #saveProfileManager(Profile)}.
+     * Waits for the profile to be written, as profiles are only saved when the user asks to, and any failure
+     * must be reported to them.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
     @Override
     public void saveProfileManager(Profile profile, Path filePath) throws IOException {
         requireNonNull(profile);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableProfileManager(profile), filePath);
+        byte[] content = JsonUtil.toJsonBytes(new JsonSerializableProfileManager(profile));
+        synchronized (this) {
+            storageWriter.writeAndWait(filePath, content);
+            if (filePath.equals(this.filePath)) {
+                cachedProfile = profile;
+                isProfileCached = true;
+            }
+        }
     }
 }
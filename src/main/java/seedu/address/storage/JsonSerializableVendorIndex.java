@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The index of a sharded vendor data directory, serializable to JSON format: the details of every vendor, in
+ * order, along with the name of the file that holds its menu.
+ */
+class JsonSerializableVendorIndex {
+
+    public static final int VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Vendor index version %d is not supported.";
+    public static final String VERSION_FIELD = "version";
+    public static final String VENDORS_FIELD = "vendors";
+
+    private final int version;
+    private final List<Entry> vendors = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableVendorIndex} with the given entries.
+     */
+    @JsonCreator
+    public JsonSerializableVendorIndex(@JsonProperty("version") int version,
+            @JsonProperty("vendors") List<Entry> vendors) {
+        this.version = version;
+        if (vendors != null) {
+            this.vendors.addAll(vendors);
+        }
+    }
+
+    /**
+     * Returns the entries of the index, in order.
+     *
+     * @throws IllegalValueException if the index was written by an unsupported version.
+     */
+    public List<Entry> getEntries() throws IllegalValueException {
+        checkVersion(version);
+        return vendors;
+    }
+
+    /**
+     * Checks that an index of {@code version} can be read.
+     *
+     * @throws IllegalValueException if it was written by an unsupported version.
+     */
+    public static void checkVersion(int version) throws IllegalValueException {
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    /**
+     * A vendor in the index, and the name of the file that holds its menu.
+     */
+    static class Entry {
+        public static final String MISSING_FILE_MESSAGE = "Vendor index entry's file field is missing!";
+
+        private final String file;
+        private final JsonAdaptedVendor vendor;
+
+        /**
+         * Constructs an {@code Entry} with the given details.
+         */
+        @JsonCreator
+        public Entry(@JsonProperty("file") String file, @JsonProperty("vendor") JsonAdaptedVendor vendor) {
+            this.file = file;
+            this.vendor = vendor;
+        }
+
+        /**
+         * Returns the name of the file that holds the menu of the vendor.
+         *
+         * @throws IllegalValueException if it is missing or not a plain file name.
+         */
+        public String getFile() throws IllegalValueException {
+            if (file == null || file.isEmpty() || file.contains("/") || file.contains("\\")) {
+                throw new IllegalValueException(MISSING_FILE_MESSAGE);
+            }
+            return file;
+        }
+
+        /**
+         * Returns the vendor, leaving its menu out.
+         *
+         * @throws IllegalValueException if it is missing.
+         */
+        public JsonAdaptedVendor getVendor() throws IllegalValueException {
+            if (vendor == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedVendor.MISSING_FIELD_MESSAGE_FORMAT,
+                        "vendor"));
+            }
+            return vendor;
+        }
+    }
+}
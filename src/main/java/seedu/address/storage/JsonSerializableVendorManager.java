@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -10,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.vendor.ReadOnlyVendorManager;
-import seedu.address.model.vendor.Vendor;
 import seedu.address.model.vendor.VendorManager;
 
 
@@ -47,15 +47,22 @@ class JsonSerializableVendorManager {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public VendorManager toModelType() throws IllegalValueException {
-        VendorManager vendorManager = new VendorManager();
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this address book into the model's {@code VendorManager} object, converting and validating the
+     * vendors on {@code pool}, or one at a time if {@code pool} is null.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. If several vendors are invalid,
+     *     the first of them is reported.
+     */
+    public VendorManager toModelType(ForkJoinPool pool) throws IllegalValueException {
+        JsonVendorConverter<JsonAdaptedVendor> converter = JsonVendorConverter.ofJsonAdaptedVendors(pool);
         for (JsonAdaptedVendor jsonAdaptedVendor : vendors) {
-            Vendor vendor = jsonAdaptedVendor.toModelType();
-            if (vendorManager.hasVendor(vendor)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_VENDOR);
-            }
-            vendorManager.addVendor(vendor);
+            converter.handle(jsonAdaptedVendor);
         }
-        return vendorManager;
+        return converter.toVendorManager();
     }
 
 }
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.food.MenuItem;
+import seedu.address.model.menu.Menu;
+
+/**
+ * The menu of a single vendor, serializable to JSON format as a file of its own.
+ */
+class JsonSerializableVendorMenu {
+
+    private final List<JsonAdaptedMenuItem> menu = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableVendorMenu} with the given menu items.
+     */
+    @JsonCreator
+    public JsonSerializableVendorMenu(@JsonProperty("menu") List<JsonAdaptedMenuItem> menu) {
+        if (menu != null) {
+            this.menu.addAll(menu);
+        }
+    }
+
+    /**
+     * Converts a given {@code Menu} into this class for Jackson use.
+     */
+    public JsonSerializableVendorMenu(Menu source) {
+        menu.addAll(source.getMenuItems());
+    }
+
+    /**
+     * Converts this menu into the model's {@code Menu} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Menu toModelType() throws IllegalValueException {
+        List<MenuItem> menuItems = new ArrayList<>(menu.size());
+        Set<MenuItem> identities = new HashSet<>();
+        for (JsonAdaptedMenuItem jsonAdaptedMenuItem : menu) {
+            MenuItem menuItem = jsonAdaptedMenuItem.toModelType();
+            if (!identities.add(menuItem)) {
+                throw new IllegalValueException(JsonSerializableMenuManager.MESSAGE_DUPLICATE_FOOD);
+            }
+            menuItems.add(menuItem);
+        }
+        Menu modelMenu = new Menu();
+        modelMenu.addAll(menuItems);
+        return modelMenu;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -15,9 +17,18 @@ import seedu.address.model.UserPrefs;
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     private Path filePath;
+    private final StorageWriter storageWriter;
 
     public JsonUserPrefsStorage(Path filePath) {
+        this(filePath, StorageWriter.createDirect());
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that saves through {@code storageWriter}.
+     */
+    public JsonUserPrefsStorage(Path filePath, StorageWriter storageWriter) {
         this.filePath = filePath;
+        this.storageWriter = storageWriter;
     }
 
     @Override
@@ -36,12 +47,14 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
+        storageWriter.awaitPendingWrites();
         return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
     }
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        requireNonNull(userPrefs);
+        storageWriter.write(filePath, JsonUtil.toJsonBytes(userPrefs));
     }
 
 }
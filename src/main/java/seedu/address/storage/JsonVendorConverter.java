@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableVendorManager.MESSAGE_DUPLICATE_VENDOR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil.JsonElementHandler;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.vendor.VendorIdentitySet;
+import seedu.address.model.vendor.VendorManager;
+
+/**
+ * Converts vendors read from JSON into a {@code VendorManager}, checking for duplicate vendors in constant time
+ * per vendor.
+ * Each element handled is converted to a vendor by a {@code VendorConversion}, such as
+ * {@code JsonAdaptedVendor::toModelType}. Given a {@code ForkJoinPool}, each vendor is converted and validated on
+ * the pool as soon as it is handled, and the results are collected in the order the vendors were handled.
+ * Whatever the timing of the conversions, the error reported is always the one a sequential conversion would have
+ * reported first.
+ */
+class JsonVendorConverter<T> implements JsonElementHandler<T> {
+
+    private final ForkJoinPool pool;
+    private final VendorConversion<? super T> vendorConversion;
+    private final List<Conversion<T>> conversions = new ArrayList<>();
+    private final List<Vendor> vendors = new ArrayList<>();
+    private final VendorIdentitySet identities = new VendorIdentitySet();
+
+    /**
+     * Creates a converter that converts elements to vendors with {@code vendorConversion} on {@code pool}, or one
+     * at a time as they are handled if {@code pool} is null.
+     */
+    JsonVendorConverter(ForkJoinPool pool, VendorConversion<? super T> vendorConversion) {
+        this.pool = pool;
+        this.vendorConversion = vendorConversion;
+    }
+
+    /**
+     * Returns a converter of {@code JsonAdaptedVendor}s with their menus, which converts them on {@code pool}, or
+     * one at a time as they are handled if {@code pool} is null.
+     */
+    static JsonVendorConverter<JsonAdaptedVendor> ofJsonAdaptedVendors(ForkJoinPool pool) {
+        return new JsonVendorConverter<>(pool, JsonAdaptedVendor::toModelType);
+    }
+
+    @Override
+    public void handle(T element) throws IllegalValueException {
+        if (pool == null) {
+            addVendor(vendorConversion.toVendor(element));
+        } else {
+            Conversion<T> conversion = new Conversion<>(element, vendorConversion);
+            pool.execute(conversion);
+            conversions.add(conversion);
+        }
+    }
+
+    /**
+     * Returns a {@code VendorManager} with all handled vendors, in the order they were handled.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or there are duplicate vendors.
+     */
+    VendorManager toVendorManager() throws IllegalValueException {
+        try {
+            for (Conversion<T> conversion : conversions) {
+                addVendor(conversion.getVendor());
+            }
+        } finally {
+            conversions.forEach(conversion -> conversion.cancel(false));
+            conversions.clear();
+        }
+        VendorManager vendorManager = new VendorManager();
+        vendorManager.setVendors(vendors);
+        return vendorManager;
+    }
+
+    private void addVendor(Vendor vendor) throws IllegalValueException {
+        if (!identities.add(vendor)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_VENDOR);
+        }
+        vendors.add(vendor);
+    }
+
+    /**
+     * Converts an element read from JSON into a vendor.
+     */
+    @FunctionalInterface
+    interface VendorConversion<T> {
+        /**
+         * Returns the vendor that {@code element} describes.
+         * @throws IllegalValueException if the element violates any data constraints.
+         */
+        Vendor toVendor(T element) throws IllegalValueException;
+    }
+
+    /**
+     * The conversion of one vendor, which keeps any {@code IllegalValueException} to be rethrown in the thread
+     * that collects the result.
+     */
+    private static class Conversion<T> extends RecursiveAction {
+        private final VendorConversion<? super T> vendorConversion;
+        // Cleared once converted, so that the JSON form of the vendor can be collected while others are converted.
+        private T source;
+        private Vendor vendor;
+        private IllegalValueException error;
+
+        Conversion(T source, VendorConversion<? super T> vendorConversion) {
+            this.source = source;
+            this.vendorConversion = vendorConversion;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                vendor = vendorConversion.toVendor(source);
+            } catch (IllegalValueException e) {
+                error = e;
+            } finally {
+                source = null;
+            }
+        }
+
+        /**
+         * Waits for the conversion to finish and returns the vendor.
+         *
+         * @throws IllegalValueException if the vendor violates any data constraints.
+         */
+        Vendor getVendor() throws IllegalValueException {
+            join();
+            if (error != null) {
+                throw error;
+            }
+            return vendor;
+        }
+    }
+}
@@ -3,15 +3,17 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.vendor.ReadOnlyVendorManager;
 
 /**
@@ -21,16 +23,89 @@ public class JsonVendorManagerStorage implements VendorManagerStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonVendorManagerStorage.class);
 
+    private static final String VENDORS_FIELD = "vendors";
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+
     private Path filePath;
+    private final Path snapshotPath;
+    private final ForkJoinPool conversionPool;
+    private final StorageWriter storageWriter;
 
+    /**
+     * Creates a storage for the file at {@code filePath} that converts vendors in parallel on the common
+     * fork-join pool when there is more than one processor.
+     */
     public JsonVendorManagerStorage(Path filePath) {
+        this(filePath, StorageWriter.createDirect());
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that saves through {@code storageWriter}, and converts
+     * vendors in parallel on the common fork-join pool when there is more than one processor.
+     */
+    public JsonVendorManagerStorage(Path filePath, StorageWriter storageWriter) {
+        this(filePath, Runtime.getRuntime().availableProcessors() > 1 ? ForkJoinPool.commonPool() : null,
+                storageWriter);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that converts vendors on {@code conversionPool}, or one
+     * at a time if {@code conversionPool} is null.
+     */
+    public JsonVendorManagerStorage(Path filePath, ForkJoinPool conversionPool) {
+        this(filePath, conversionPool, StorageWriter.createDirect());
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that converts vendors on {@code conversionPool}, or one
+     * at a time if {@code conversionPool} is null, and saves through {@code storageWriter}.
+     */
+    public JsonVendorManagerStorage(Path filePath, ForkJoinPool conversionPool, StorageWriter storageWriter) {
+        this(filePath, null, conversionPool, storageWriter);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that keeps a binary snapshot of the vendors at
+     * {@code snapshotPath}, saves through {@code storageWriter}, and converts vendors in parallel on the common
+     * fork-join pool when there is more than one processor.
+     */
+    public JsonVendorManagerStorage(Path filePath, Path snapshotPath, StorageWriter storageWriter) {
+        this(filePath, snapshotPath, Runtime.getRuntime().availableProcessors() > 1 ? ForkJoinPool.commonPool() : null,
+                storageWriter);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that keeps a binary snapshot of the vendors at
+     * {@code snapshotPath}, or none if it is null. Vendors are converted from JSON on {@code conversionPool}, or
+     * one at a time if {@code conversionPool} is null, and saved through {@code storageWriter}.
+     */
+    public JsonVendorManagerStorage(Path filePath, Path snapshotPath, ForkJoinPool conversionPool,
+            StorageWriter storageWriter) {
         this.filePath = filePath;
+        this.snapshotPath = snapshotPath;
+        this.conversionPool = conversionPool;
+        this.storageWriter = storageWriter;
     }
 
     public Path getVendorManagerFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the pool that vendors are converted on, or null if they are converted one at a time.
+     */
+    ForkJoinPool getConversionPool() {
+        return conversionPool;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept next to the JSON data file at {@code filePath}.
+     */
+    public static Path getDefaultSnapshotPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        return filePath.resolveSibling(fileName.replaceFirst("\\.json$", "") + SNAPSHOT_EXTENSION);
+    }
+
     @Override
     public Optional<ReadOnlyVendorManager> readVendorManager() throws DataConversionException {
         return readVendorManager(filePath);
@@ -38,21 +113,42 @@ public class JsonVendorManagerStorage implements VendorManagerStorage {
 
     /**
      * Similar to {@link #readVendorManager()}.
+     * The vendors are loaded from the snapshot if this storage keeps one and it was taken from the current
+     * contents of the file. Otherwise they are handed over for conversion as soon as each is read from the file,
+     * so the whole file is never held in memory at once, and a new snapshot is taken of them.
+     * If several vendors are invalid, the first of them in the file is reported.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyVendorManager> readVendorManager(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableVendorManager> jsonVendorManager = JsonUtil.readJsonFile(
-                filePath, JsonSerializableVendorManager.class);
-        if (!jsonVendorManager.isPresent()) {
-            return Optional.empty();
+        storageWriter.awaitPendingWrites();
+
+        Long checksum = null;
+        if (snapshotPath != null && filePath.equals(this.filePath) && Files.exists(filePath)) {
+            try {
+                checksum = VendorSnapshot.checksumOf(filePath);
+                if (Files.exists(snapshotPath)) {
+                    return Optional.of(VendorSnapshot.read(snapshotPath, checksum));
+                }
+            } catch (IOException e) {
+                logger.info("Not using the vendor snapshot: " + e.getMessage());
+            }
         }
 
+        JsonVendorConverter<JsonAdaptedVendor> converter = JsonVendorConverter.ofJsonAdaptedVendors(conversionPool);
         try {
-            return Optional.of(jsonVendorManager.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayField(filePath, VENDORS_FIELD, JsonAdaptedVendor.class,
+                    converter);
+            if (!isFound) {
+                return Optional.empty();
+            }
+            ReadOnlyVendorManager vendorManager = converter.toVendorManager();
+            if (checksum != null) {
+                saveSnapshot(vendorManager, checksum);
+            }
+            return Optional.of(vendorManager);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +169,23 @@ public class JsonVendorManagerStorage implements VendorManagerStorage {
         requireNonNull(vendorManager);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableVendorManager(vendorManager), filePath);
+        byte[] content = JsonUtil.toJsonBytes(new JsonSerializableVendorManager(vendorManager));
+        storageWriter.write(filePath, content);
+        if (snapshotPath != null && filePath.equals(this.filePath)) {
+            saveSnapshot(vendorManager, VendorSnapshot.checksumOf(content));
+        }
+    }
+
+    /**
+     * Saves a snapshot of {@code vendorManager}, which matches a JSON data file with {@code sourceChecksum}.
+     * Failing to save it only costs the next read its speed.
+     */
+    private void saveSnapshot(ReadOnlyVendorManager vendorManager, long sourceChecksum) {
+        try {
+            storageWriter.write(snapshotPath, VendorSnapshot.toBytes(vendorManager, sourceChecksum));
+        } catch (IOException e) {
+            logger.warning("Failed to save the vendor snapshot " + StringUtil.getDetails(e));
+        }
     }
 
 }
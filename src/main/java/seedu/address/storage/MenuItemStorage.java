@@ -2,11 +2,10 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.menu.MenuManager;
-import seedu.address.model.menu.ReadOnlyMenuManager;
 import seedu.address.model.vendor.Vendor;
 
 /**
@@ -14,17 +13,18 @@ import seedu.address.model.vendor.Vendor;
  */
 public class MenuItemStorage {
     /**
-     * Generates a List of ReadOnlyMenuManager wrapped in Optional class
+     * Generates a List of sources of MenuManager, one for each vendor, that only load the menu of the vendor when
+     * called. Each MenuManager wraps the menu of its vendor rather than a copy, so changes to it are saved with
+     * the vendor.
      */
-    public List<Optional<ReadOnlyMenuManager>> readMenuManagers(ObservableList<Vendor> vendorObservableList) {
+    public List<Supplier<MenuManager>> readMenuManagerSources(ObservableList<Vendor> vendorObservableList) {
 
-        List<Optional<ReadOnlyMenuManager>> menuManagers = new ArrayList<>();
+        List<Supplier<MenuManager>> menuManagerSources = new ArrayList<>();
 
         for (Vendor vendor : vendorObservableList) {
-            MenuManager menuManager1 = new MenuManager(vendor.getMenu());
-            menuManagers.add(Optional.of(menuManager1));
+            menuManagerSources.add(() -> new MenuManager(vendor.getMenu()));
         }
 
-        return menuManagers;
+        return menuManagerSources;
     }
 }
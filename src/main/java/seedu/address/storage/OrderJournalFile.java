@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.order.OrderJournal;
+import seedu.address.model.order.OrderJournalEntry;
+
+/**
+ * An {@code OrderJournal} kept in a file, one JSON entry per line.
+ * Entries are appended to the file as they are recorded, but only forced to the storage device in batches: once
+ * {@code syncBatchSize} entries are waiting, or shortly after the first of them was appended. Compaction
+ * replaces the file atomically, and the new file is forced along with the next batch.
+ * An entry that was only partly written when the app stopped is dropped, along with everything after it.
+ */
+public class OrderJournalFile implements OrderJournal {
+
+    public static final String FILE_NAME = "order.journal";
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 32;
+    public static final long DEFAULT_SYNC_DELAY_MILLIS = 200;
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(OrderJournalFile.class);
+
+    private final Path filePath;
+    private final int syncBatchSize;
+    private final int compactionThreshold;
+    private final ScheduledExecutorService syncScheduler;
+    private final long syncDelayMillis;
+
+    // Guarded by this.
+    private FileChannel channel;
+    private long validLength = -1;
+    private int entryCount;
+    private int unsyncedCount;
+    private boolean isSyncScheduled;
+
+    /**
+     * Creates a journal in {@code filePath} that forces its entries at least every
+     * {@value #DEFAULT_SYNC_DELAY_MILLIS} milliseconds on a thread of its own.
+     */
+    public OrderJournalFile(Path filePath) {
+        this(filePath, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_COMPACTION_THRESHOLD,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "order-journal-sync");
+                    thread.setDaemon(true);
+                    return thread;
+                }), DEFAULT_SYNC_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a journal in {@code filePath} that forces its entries once {@code syncBatchSize} of them are
+     * waiting, and {@code syncDelayMillis} after the first of them on {@code syncScheduler}, if it is not null.
+     * The journal asks to be compacted once it holds {@code compactionThreshold} entries.
+     */
+    OrderJournalFile(Path filePath, int syncBatchSize, int compactionThreshold,
+            ScheduledExecutorService syncScheduler, long syncDelayMillis) {
+        requireNonNull(filePath);
+        checkArgument(syncBatchSize > 0, "Sync batch size must be positive.");
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.filePath = filePath;
+        this.syncBatchSize = syncBatchSize;
+        this.compactionThreshold = compactionThreshold;
+        this.syncScheduler = syncScheduler;
+        this.syncDelayMillis = syncDelayMillis;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the entries in the file, or none if there is no file yet. Reading stops at the first entry that
+     * cannot be read, and later appends overwrite it.
+     * Must be called before anything is recorded in the journal.
+     */
+    public synchronized List<OrderJournalEntry> read() throws IOException {
+        List<OrderJournalEntry> entries = new ArrayList<>();
+        validLength = 0;
+        if (!Files.exists(filePath)) {
+            return entries;
+        }
+
+        byte[] content = Files.readAllBytes(filePath);
+        int lineStart = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] != '\n') {
+                continue;
+            }
+            String line = new String(content, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedOrderJournalEntry.class).toModelType());
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Ignoring unreadable order journal entries from byte " + lineStart + ": "
+                        + StringUtil.getDetails(e));
+                break;
+            }
+            lineStart = i + 1;
+        }
+        if (lineStart < content.length) {
+            logger.warning("Dropping " + (content.length - lineStart) + " bytes at the end of the order journal");
+        }
+        validLength = lineStart;
+        entryCount = entries.size();
+        return entries;
+    }
+
+    @Override
+    public synchronized void append(OrderJournalEntry entry) {
+        requireNonNull(entry);
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(JsonUtil.toJsonLine(new JsonAdaptedOrderJournalEntry(entry)));
+            FileChannel openChannel = openChannel();
+            while (buffer.hasRemaining()) {
+                openChannel.write(buffer);
+            }
+            entryCount++;
+            unsyncedCount++;
+            if (unsyncedCount >= syncBatchSize) {
+                sync();
+            } else {
+                scheduleSync();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to append to the order journal " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public synchronized boolean needsCompaction() {
+        return entryCount >= compactionThreshold;
+    }
+
+    @Override
+    public synchronized void compact(List<OrderJournalEntry> entries) {
+        requireNonNull(entries);
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            for (OrderJournalEntry entry : entries) {
+                content.write(JsonUtil.toJsonLine(new JsonAdaptedOrderJournalEntry(entry)));
+            }
+            closeChannel();
+            FileUtil.writeToFileAtomically(filePath, content.toByteArray(), false);
+            validLength = content.size();
+            entryCount = entries.size();
+            openChannel();
+            // The compacted entries are forced like appended ones, so that compacting does not wait for the disk.
+            unsyncedCount = Math.max(unsyncedCount, 1);
+            scheduleSync();
+            logger.fine("Compacted the order journal to " + entryCount + " entries");
+        } catch (IOException e) {
+            logger.warning("Failed to compact the order journal " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Forces every entry appended so far to the storage device.
+     */
+    public synchronized void flush() throws IOException {
+        sync();
+    }
+
+    /**
+     * Flushes the journal and releases the file. Nothing may be recorded afterwards.
+     */
+    public synchronized void close() throws IOException {
+        if (syncScheduler != null) {
+            syncScheduler.shutdownNow();
+        }
+        try {
+            sync();
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Returns the channel that entries are appended through, opening it at the end of the valid entries.
+     */
+    private FileChannel openChannel() throws IOException {
+        if (channel != null) {
+            return channel;
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (validLength >= 0 && validLength < channel.size()) {
+            channel.truncate(validLength);
+        }
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } finally {
+            channel = null;
+            validLength = -1;
+        }
+    }
+
+    private void sync() throws IOException {
+        if (channel != null && unsyncedCount > 0) {
+            channel.force(false);
+        }
+        unsyncedCount = 0;
+    }
+
+    private void scheduleSync() {
+        if (syncScheduler == null || isSyncScheduled) {
+            return;
+        }
+        isSyncScheduled = true;
+        syncScheduler.schedule(this::syncScheduled, syncDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void syncScheduled() {
+        isSyncScheduled = false;
+        try {
+            sync();
+        } catch (IOException e) {
+            logger.warning("Failed to sync the order journal " + StringUtil.getDetails(e));
+        }
+    }
+}
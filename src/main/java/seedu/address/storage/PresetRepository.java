@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.order.OrderItem;
+import seedu.address.model.preset.Preset;
+
+/**
+ * The presets of all vendors, read from a {@code PresetManagerStorage} once and then served from memory, with
+ * the presets of each vendor looked up by name in constant time.
+ * Changes are written back to the storage in the background. Changes made while a write is pending are
+ * coalesced into that write, and {@link #flush()} writes any outstanding changes immediately.
+ * Presets are copied on the way in and out, so changes to the order items of a preset elsewhere never leak
+ * into the repository.
+ */
+public class PresetRepository {
+
+    private static final Logger logger = LogsCenter.getLogger(PresetRepository.class);
+
+    private final PresetManagerStorage storage;
+    private final Executor writeExecutor;
+    private final Object writeLock = new Object();
+
+    // Guarded by this.
+    private List<Map<String, Preset>> presetsByVendor;
+    private final Set<Integer> dirtyVendors = new HashSet<>();
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a repository of the presets in {@code storage}, which writes changes back on {@code writeExecutor}.
+     */
+    public PresetRepository(PresetManagerStorage storage, Executor writeExecutor) {
+        requireNonNull(storage);
+        requireNonNull(writeExecutor);
+        this.storage = storage;
+        this.writeExecutor = writeExecutor;
+    }
+
+    /**
+     * Returns copies of the presets of the vendor at {@code vendorIndex}, in the order they were saved.
+     *
+     * @throws DataConversionException if the presets in storage are not in the expected format.
+     * @throws IOException if there was any problem when reading the presets from storage.
+     */
+    public synchronized List<Preset> getPresets(int vendorIndex) throws DataConversionException, IOException {
+        return presetsOf(vendorIndex).values().stream().map(PresetRepository::copyOf).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a copy of the preset of the vendor at {@code vendorIndex} named {@code name}, if there is one.
+     *
+     * @throws DataConversionException if the presets in storage are not in the expected format.
+     * @throws IOException if there was any problem when reading the presets from storage.
+     */
+    public synchronized Optional<Preset> getPreset(int vendorIndex, String name)
+            throws DataConversionException, IOException {
+        requireNonNull(name);
+        return Optional.ofNullable(presetsOf(vendorIndex).get(name)).map(PresetRepository::copyOf);
+    }
+
+    /**
+     * Saves a copy of {@code preset} as the last preset of the vendor at {@code vendorIndex}, replacing any
+     * preset of that vendor with the same name. Returns true if a preset was replaced.
+     *
+     * @throws DataConversionException if the presets in storage are not in the expected format.
+     * @throws IOException if there was any problem when reading the presets from storage.
+     */
+    public boolean putPreset(int vendorIndex, Preset preset) throws DataConversionException, IOException {
+        requireNonNull(preset);
+        boolean isReplaced;
+        synchronized (this) {
+            Map<String, Preset> presets = presetsOf(vendorIndex);
+            isReplaced = presets.remove(preset.getName()) != null;
+            presets.put(preset.getName(), copyOf(preset));
+            dirtyVendors.add(vendorIndex);
+        }
+        scheduleWrite();
+        return isReplaced;
+    }
+
+    /**
+     * Removes the preset of the vendor at {@code vendorIndex} named {@code name}.
+     * Returns true if there was such a preset.
+     *
+     * @throws DataConversionException if the presets in storage are not in the expected format.
+     * @throws IOException if there was any problem when reading the presets from storage.
+     */
+    public boolean removePreset(int vendorIndex, String name) throws DataConversionException, IOException {
+        requireNonNull(name);
+        synchronized (this) {
+            if (presetsOf(vendorIndex).remove(name) == null) {
+                return false;
+            }
+            dirtyVendors.add(vendorIndex);
+        }
+        scheduleWrite();
+        return true;
+    }
+
+    /**
+     * Writes any changes that have not been written to storage yet, waiting for the write to finish.
+     *
+     * @throws IOException if there was any problem when writing to storage. The changes are kept to be written
+     *     again later.
+     */
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            List<List<Preset>> snapshot;
+            Set<Integer> writtenVendors;
+            synchronized (this) {
+                isWriteScheduled = false;
+                if (dirtyVendors.isEmpty()) {
+                    return;
+                }
+                snapshot = new ArrayList<>();
+                for (Map<String, Preset> presets : presetsByVendor) {
+                    snapshot.add(new ArrayList<>(presets.values()));
+                }
+                writtenVendors = new HashSet<>(dirtyVendors);
+                dirtyVendors.clear();
+            }
+
+            try {
+                storage.savePresetManager(snapshot);
+                logger.fine("Wrote the presets of vendors " + writtenVendors);
+            } catch (IOException e) {
+                synchronized (this) {
+                    dirtyVendors.addAll(writtenVendors);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void scheduleWrite() {
+        synchronized (this) {
+            if (isWriteScheduled) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        writeExecutor.execute(() -> {
+            try {
+                flush();
+            } catch (IOException e) {
+                logger.warning("Failed to write presets " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Returns the presets of the vendor at {@code vendorIndex} by name, reading all presets from storage first if
+     * they have not been read yet.
+     */
+    private Map<String, Preset> presetsOf(int vendorIndex) throws DataConversionException, IOException {
+        assert Thread.holdsLock(this);
+        if (presetsByVendor == null) {
+            List<List<Preset>> allPresets = storage.readPresetManager().orElseGet(ArrayList::new);
+            presetsByVendor = new ArrayList<>();
+            for (List<Preset> presets : allPresets) {
+                Map<String, Preset> presetsByName = new LinkedHashMap<>();
+                presets.forEach(preset -> presetsByName.put(preset.getName(), preset));
+                presetsByVendor.add(presetsByName);
+            }
+        }
+        while (presetsByVendor.size() <= vendorIndex) {
+            presetsByVendor.add(new LinkedHashMap<>());
+        }
+        return presetsByVendor.get(vendorIndex);
+    }
+
+    private static Preset copyOf(Preset preset) {
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (OrderItem orderItem : preset.getOrderItems()) {
+            orderItems.add(orderItem.makeCopy());
+        }
+        return new Preset(preset.getName(), orderItems);
+    }
+}
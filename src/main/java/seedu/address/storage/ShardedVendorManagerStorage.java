@@ -0,0 +1,329 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.menu.Menu;
+import seedu.address.model.vendor.ReadOnlyVendorManager;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.vendor.VendorManager;
+
+/**
+ * A class to access VendorManager data stored on the hard disk as a small index file of vendors, next to one
+ * file per vendor that holds its menu.
+ * The menu of a vendor is only read from its file when it is first needed, and saving only rewrites the files
+ * of vendors whose menus were read and have changed since, and the index if it has changed.
+ * VendorManager data in the single-file format is migrated when there is no index yet. Reading from or saving
+ * to any path other than the index uses the single-file format, so that the data can still be exported as one
+ * file.
+ */
+public class ShardedVendorManagerStorage implements VendorManagerStorage {
+
+    public static final String DEFAULT_INDEX_FILE_NAME = "index.json";
+    public static final String MESSAGE_DUPLICATE_FILE = "Vendors list contains duplicate menu file(s).";
+    public static final String MESSAGE_INVALID_FILE = "Vendors list contains a menu file outside its directory: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedVendorManagerStorage.class);
+
+    private static final String SHARD_EXTENSION = ".menu.json";
+    private static final int MAX_SHARD_NAME_LENGTH = 40;
+
+    private final Path indexPath;
+    private final JsonVendorManagerStorage singleFileStorage;
+    private final StorageWriter storageWriter;
+
+    // The files of the vendors in the index as last read or saved. Guarded by this.
+    private Map<Vendor, String> shardFiles = new IdentityHashMap<>();
+    private Long indexChecksum;
+    // The checksums of the contents of vendor files, where they are known. Menus are loaded while holding the
+    // lock of their vendor, so this is not guarded by this.
+    private final Map<String, Long> shardChecksums = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a storage for the index at {@code indexPath}, whose vendor files are kept next to it, that saves
+     * through {@code storageWriter}. VendorManager data in the single-file format is read from and saved to
+     * through {@code singleFileStorage}, which also holds the data to migrate.
+     */
+    public ShardedVendorManagerStorage(Path indexPath, JsonVendorManagerStorage singleFileStorage,
+            StorageWriter storageWriter) {
+        requireNonNull(indexPath);
+        requireNonNull(singleFileStorage);
+        requireNonNull(storageWriter);
+        this.indexPath = indexPath;
+        this.singleFileStorage = singleFileStorage;
+        this.storageWriter = storageWriter;
+    }
+
+    @Override
+    public Path getVendorManagerFilePath() {
+        return indexPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyVendorManager> readVendorManager() throws DataConversionException, IOException {
+        return readVendorManager(indexPath);
+    }
+
+    /**
+     * Similar to {@link #readVendorManager()}.
+     * The vendors are read from the index if {@code filePath} is its path, migrating the data in the file of
+     * {@code singleFileStorage} if there is no index yet. Vendor files that the index does not refer to are
+     * deleted. Any other {@code filePath} is read in the single-file format.
+     * Like the single-file format, the index is read one vendor at a time, and vendors are converted on the
+     * conversion pool of {@code singleFileStorage}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyVendorManager> readVendorManager(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(indexPath)) {
+            return singleFileStorage.readVendorManager(filePath);
+        }
+
+        storageWriter.awaitPendingWrites();
+        if (!Files.exists(indexPath)) {
+            return migrate();
+        }
+
+        Map<Vendor, String> files = Collections.synchronizedMap(new IdentityHashMap<>());
+        JsonVendorConverter<JsonSerializableVendorIndex.Entry> converter = new JsonVendorConverter<>(
+                singleFileStorage.getConversionPool(), entry -> {
+                    String file = entry.getFile();
+                    checkShardName(file);
+                    Vendor vendor = entry.getVendor().toModelType(() -> readShard(file));
+                    files.put(vendor, file);
+                    return vendor;
+                });
+        AtomicBoolean isVersionRead = new AtomicBoolean();
+        VendorManager vendorManager;
+        try {
+            JsonUtil.readJsonArrayField(indexPath, JsonSerializableVendorIndex.VENDORS_FIELD,
+                    JsonSerializableVendorIndex.Entry.class, converter,
+                    Map.of(JsonSerializableVendorIndex.VERSION_FIELD, version -> {
+                        JsonSerializableVendorIndex.checkVersion(version.asInt());
+                        isVersionRead.set(true);
+                    }));
+            if (!isVersionRead.get()) {
+                JsonSerializableVendorIndex.checkVersion(0);
+            }
+            vendorManager = converter.toVendorManager();
+            Set<String> fileNames = new HashSet<>();
+            for (Vendor vendor : vendorManager.getVendorList()) {
+                if (!fileNames.add(files.get(vendor))) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_FILE);
+                }
+            }
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + indexPath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        synchronized (this) {
+            shardFiles = new IdentityHashMap<>(files);
+            shardChecksums.clear();
+            indexChecksum = VendorSnapshot.checksumOf(indexPath);
+        }
+        deleteUnreferencedShards(new HashSet<>(files.values()));
+        return Optional.of(vendorManager);
+    }
+
+    /**
+     * Checks that {@code file}, as read from the index, names a vendor file in the directory of the index, so that
+     * an index that was tampered with cannot make the storage read or overwrite other files.
+     *
+     * @throws IllegalValueException if it does not.
+     */
+    private void checkShardName(String file) throws IllegalValueException {
+        boolean isPlainName = !file.contains("/") && !file.contains("\\")
+                && !file.equals(".") && !file.equals("..") && file.endsWith(SHARD_EXTENSION);
+        try {
+            if (isPlainName && Objects.equals(indexPath.resolveSibling(file).getParent(), indexPath.getParent())) {
+                return;
+            }
+        } catch (InvalidPathException e) {
+            // Rejected below.
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_FILE, file));
+    }
+
+    /**
+     * Returns the vendors in the file of {@code singleFileStorage}, saved to the index and vendor files, or
+     * nothing if there is no such file. The file itself is left in place.
+     */
+    private Optional<ReadOnlyVendorManager> migrate() throws DataConversionException, IOException {
+        Path legacyPath = singleFileStorage.getVendorManagerFilePath();
+        Optional<ReadOnlyVendorManager> vendorManager = singleFileStorage.readVendorManager(legacyPath);
+        if (vendorManager.isPresent()) {
+            saveVendorManager(vendorManager.get());
+            logger.info("Migrated " + vendorManager.get().getVendorList().size() + " vendors from " + legacyPath
+                    + " to " + indexPath);
+        }
+        return vendorManager;
+    }
+
+    /**
+     * Returns the menu in the vendor file {@code file}, or an empty menu if it cannot be read. A file that cannot
+     * be read, or that holds an empty menu as the single-file format does not allow, is left as it is until the
+     * menu is changed.
+     */
+    private Menu readShard(String file) {
+        storageWriter.awaitPendingWrites();
+        Path shardPath = indexPath.resolveSibling(file);
+        try {
+            byte[] content = Files.readAllBytes(shardPath);
+            Menu menu = JsonUtil.fromJsonBytes(content, JsonSerializableVendorMenu.class).toModelType();
+            if (menu.asUnmodifiableObservableList().isEmpty()) {
+                throw new IllegalValueException(JsonAdaptedVendor.MESSAGE_EMPTY_MENU);
+            }
+            recordShard(file, content);
+            return menu;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Problem while reading " + shardPath + ". Will be starting with an empty menu "
+                    + StringUtil.getDetails(e));
+            Menu menu = new Menu();
+            try {
+                recordShard(file, JsonUtil.toJsonBytes(new JsonSerializableVendorMenu(menu)));
+            } catch (IOException unused) {
+                // The file is then rewritten on the next save.
+            }
+            return menu;
+        }
+    }
+
+    private void recordShard(String file, byte[] content) {
+        shardChecksums.put(file, VendorSnapshot.checksumOf(content));
+    }
+
+    @Override
+    public void saveVendorManager(ReadOnlyVendorManager vendorManager) throws IOException {
+        saveVendorManager(vendorManager, indexPath);
+    }
+
+    /**
+     * Similar to {@link #saveVendorManager(ReadOnlyVendorManager)}.
+     * Vendor files are written before the index that refers to them, so that the index on disk never refers to
+     * a file that has not been written. Any other {@code filePath} is saved in the single-file format.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveVendorManager(ReadOnlyVendorManager vendorManager, Path filePath) throws IOException {
+        requireNonNull(vendorManager);
+        requireNonNull(filePath);
+        if (!filePath.equals(indexPath)) {
+            singleFileStorage.saveVendorManager(vendorManager, filePath);
+            return;
+        }
+
+        synchronized (this) {
+            Set<String> reservedNames = new HashSet<>(shardFiles.values());
+            Set<String> usedNames = new HashSet<>();
+            Map<Vendor, String> files = new IdentityHashMap<>();
+            List<JsonSerializableVendorIndex.Entry> entries = new ArrayList<>();
+            for (Vendor vendor : vendorManager.getVendorList()) {
+                String file = shardFiles.get(vendor);
+                boolean isNewFile = file == null || !usedNames.add(file);
+                if (isNewFile) {
+                    file = newShardName(vendor, reservedNames);
+                    reservedNames.add(file);
+                    usedNames.add(file);
+                }
+                if (isNewFile || vendor.isMenuLoaded()) {
+                    saveShard(file, vendor.getMenu());
+                }
+                files.put(vendor, file);
+                entries.add(new JsonSerializableVendorIndex.Entry(file, new JsonAdaptedVendor(vendor, false)));
+            }
+
+            byte[] content = JsonUtil.toJsonBytes(
+                    new JsonSerializableVendorIndex(JsonSerializableVendorIndex.VERSION, entries));
+            long checksum = VendorSnapshot.checksumOf(content);
+            if (indexChecksum == null || indexChecksum != checksum) {
+                storageWriter.write(indexPath, content);
+                indexChecksum = checksum;
+            }
+            shardFiles = files;
+            shardChecksums.keySet().retainAll(usedNames);
+        }
+    }
+
+    /**
+     * Writes {@code menu} to the vendor file {@code file}, unless the file already holds it.
+     */
+    private void saveShard(String file, Menu menu) throws IOException {
+        byte[] content = JsonUtil.toJsonBytes(new JsonSerializableVendorMenu(menu));
+        long checksum = VendorSnapshot.checksumOf(content);
+        Long savedChecksum = shardChecksums.get(file);
+        if (savedChecksum != null && savedChecksum == checksum) {
+            return;
+        }
+        storageWriter.write(indexPath.resolveSibling(file), content);
+        shardChecksums.put(file, checksum);
+    }
+
+    /**
+     * Returns a name for the file of {@code vendor} that is derived from its name, and is not one of
+     * {@code reservedNames}.
+     */
+    private static String newShardName(Vendor vendor, Set<String> reservedNames) {
+        String slug = vendor.getName().fullName.toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("^-+|-+$", "");
+        if (slug.length() > MAX_SHARD_NAME_LENGTH) {
+            slug = slug.substring(0, MAX_SHARD_NAME_LENGTH);
+        }
+        if (slug.isEmpty()) {
+            slug = "vendor";
+        }
+        String name = slug + SHARD_EXTENSION;
+        for (int suffix = 2; reservedNames.contains(name); suffix++) {
+            name = slug + "-" + suffix + SHARD_EXTENSION;
+        }
+        return name;
+    }
+
+    /**
+     * Deletes the vendor files next to the index that are not among {@code referencedNames}, such as those left
+     * behind by vendors that were removed, or written by a save that stopped before the index was written.
+     */
+    private void deleteUnreferencedShards(Set<String> referencedNames) {
+        Path directory = indexPath.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory, "*" + SHARD_EXTENSION)) {
+            for (Path shard : shards) {
+                String name = shard.getFileName().toString();
+                if (!referencedNames.contains(name)) {
+                    Files.deleteIfExists(shard);
+                    logger.fine("Deleted unreferenced vendor file " + shard);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to clean up vendor files " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -41,6 +41,19 @@ public interface Storage extends VendorManagerStorage, UserPrefsStorage, PresetM
     @Override
     void savePresetManager(List<List<Preset>> allPresets, Path filePath) throws IOException;
 
+    /**
+     * Returns the in-memory repository of the presets in the preset storage.
+     */
+    PresetRepository getPresetRepository();
+
+    /**
+     * Reports any failure of the saves written in the background since the last check, without waiting for the
+     * saves still pending.
+     *
+     * @throws IOException the last of those failures.
+     */
+    void checkBackgroundSaves() throws IOException;
+
     @Override
     Path getProfileManagerFilePath();
 
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -24,18 +25,43 @@ public class StorageManager implements Storage {
     private UserPrefsStorage userPrefsStorage;
     private PresetManagerStorage presetManagerStorage;
     private ProfileManagerStorage profileManagerStorage;
+    private PresetRepository presetRepository;
+    private StorageWriter storageWriter;
 
     /**
      * Creates a {@code StorageManager} with the given {@code VendorManagerStorage} and {@code UserPrefStorage}
-     * and {@Code OrderManagerStorage}.
+     * and {@Code OrderManagerStorage}. Changes to presets are written as soon as they are made.
      */
     public StorageManager(VendorManagerStorage vendorManagerStorage, UserPrefsStorage userPrefsStorage,
                           PresetManagerStorage presetManagerStorage, ProfileManagerStorage profileManagerStorage) {
+        this(vendorManagerStorage, userPrefsStorage, presetManagerStorage, profileManagerStorage, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given storages, which writes changes to presets on
+     * {@code presetWriteExecutor}.
+     */
+    public StorageManager(VendorManagerStorage vendorManagerStorage, UserPrefsStorage userPrefsStorage,
+                          PresetManagerStorage presetManagerStorage, ProfileManagerStorage profileManagerStorage,
+                          Executor presetWriteExecutor) {
+        this(vendorManagerStorage, userPrefsStorage, presetManagerStorage, profileManagerStorage,
+                presetWriteExecutor, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given storages, which writes changes to presets on
+     * {@code presetWriteExecutor}, and whose background saves go through {@code storageWriter}, if it is not null.
+     */
+    public StorageManager(VendorManagerStorage vendorManagerStorage, UserPrefsStorage userPrefsStorage,
+                          PresetManagerStorage presetManagerStorage, ProfileManagerStorage profileManagerStorage,
+                          Executor presetWriteExecutor, StorageWriter storageWriter) {
         super();
         this.vendorManagerStorage = vendorManagerStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.presetManagerStorage = presetManagerStorage;
         this.profileManagerStorage = profileManagerStorage;
+        this.presetRepository = new PresetRepository(presetManagerStorage, presetWriteExecutor);
+        this.storageWriter = storageWriter;
     }
 
     public StorageManager() {
@@ -119,6 +145,18 @@ public class StorageManager implements Storage {
         presetManagerStorage.savePresetManager(allPresets, filePath);
     }
 
+    @Override
+    public PresetRepository getPresetRepository() {
+        return presetRepository;
+    }
+
+    @Override
+    public void checkBackgroundSaves() throws IOException {
+        if (storageWriter != null) {
+            storageWriter.checkFailure();
+        }
+    }
+
     // ================ ProfileManager methods ==============================
 
     @Override
@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes the data files of the storage layer, each atomically through {@link FileUtil#writeToFileAtomically}.
+ * An asynchronous writer does the writes on its own I/O thread, so saving never waits for the disk. Saves of a
+ * file that arrive before its previous save has been written replace that save, so a burst of saves of the
+ * same file costs a single write.
+ */
+public class StorageWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageWriter.class);
+
+    private final ExecutorService ioExecutor;
+    private final boolean isForced;
+
+    // Guarded by this.
+    private final Map<Path, byte[]> pendingContents = new HashMap<>();
+    private IOException failure;
+
+    private StorageWriter(ExecutorService ioExecutor, boolean isForced) {
+        this.ioExecutor = ioExecutor;
+        this.isForced = isForced;
+    }
+
+    /**
+     * Returns a writer that writes each file on the calling thread before returning.
+     */
+    public static StorageWriter createDirect() {
+        return new StorageWriter(null, false);
+    }
+
+    /**
+     * Returns a writer that writes files on a dedicated I/O thread.
+     * @param isForced whether to force each file to the storage device before it replaces the old file.
+     */
+    public static StorageWriter createAsync(boolean isForced) {
+        return new StorageWriter(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-io");
+            thread.setDaemon(true);
+            return thread;
+        }), isForced);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with {@code content}.
+     * An asynchronous writer only queues the write, and any failure is reported by the next {@link #flush()}.
+     *
+     * @throws IOException if a direct writer fails to write the file.
+     */
+    public void write(Path file, byte[] content) throws IOException {
+        requireNonNull(file);
+        requireNonNull(content);
+        if (ioExecutor == null) {
+            FileUtil.writeToFileAtomically(file, content, isForced);
+            return;
+        }
+
+        Path key = file.toAbsolutePath().normalize();
+        synchronized (this) {
+            if (pendingContents.put(key, content) != null) {
+                logger.fine("Coalesced a pending write of " + file);
+                return;
+            }
+        }
+        ioExecutor.execute(() -> writePending(key));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with {@code content}, and waits until that is done so that a failure
+     * can be reported to whoever asked for the save. An asynchronous writer still writes on its I/O thread, after
+     * the writes queued before, and replaces any pending save of the same file. Saves of the file made while
+     * waiting are written afterwards.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeAndWait(Path file, byte[] content) throws IOException {
+        requireNonNull(file);
+        requireNonNull(content);
+        if (ioExecutor == null) {
+            FileUtil.writeToFileAtomically(file, content, isForced);
+            return;
+        }
+
+        Path key = file.toAbsolutePath().normalize();
+        try {
+            Future<?> write;
+            synchronized (this) {
+                // The write queued for a pending save runs before this one, and finds nothing left to write.
+                pendingContents.remove(key);
+                write = ioExecutor.submit(() -> {
+                    FileUtil.writeToFileAtomically(key, content, isForced);
+                    return null;
+                });
+            }
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving " + file, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits until every write queued so far has been done.
+     *
+     * @throws IOException if any of the writes since the last flush failed.
+     */
+    public void flush() throws IOException {
+        awaitPendingWrites();
+        checkFailure();
+    }
+
+    /**
+     * Reports any failure of the writes since the last flush, without waiting for the writes still queued.
+     *
+     * @throws IOException the last of those failures, which is then cleared.
+     */
+    public synchronized void checkFailure() throws IOException {
+        IOException lastFailure = failure;
+        failure = null;
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Waits until every write queued so far has been done, so that reading a file returns what was last saved.
+     * Failures are kept to be reported by the next {@link #flush()}.
+     */
+    public void awaitPendingWrites() {
+        if (ioExecutor == null) {
+            return;
+        }
+        try {
+            // The I/O thread runs tasks in order, so this finishes after every write queued before it.
+            ioExecutor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes everything queued so far, then stops the I/O thread. The writer must not be used afterwards.
+     *
+     * @throws IOException if any of the writes since the last flush failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (ioExecutor != null) {
+                ioExecutor.shutdown();
+            }
+        }
+    }
+
+    private void writePending(Path file) {
+        byte[] content;
+        synchronized (this) {
+            content = pendingContents.remove(file);
+        }
+        if (content == null) {
+            // Written by writeAndWait instead.
+            return;
+        }
+        try {
+            FileUtil.writeToFileAtomically(file, content, isForced);
+        } catch (IOException e) {
+            logger.warning("Failed to write " + file + ": " + StringUtil.getDetails(e));
+            synchronized (this) {
+                failure = e;
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javax.imageio.ImageIO;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Keeps downscaled copies of the app's image resources in a directory, so that they can be shown without
+ * decoding the full-size images.
+ * Each thumbnail is named after a hash of the content of its source image, so thumbnails made on earlier runs are
+ * reused, and a changed source image gets a thumbnail of its own. Thumbnails are made on an executor, the first
+ * time each is asked for. The paths of their source images are listed in the directory, so that
+ * {@link #warmUp()} can find the thumbnails made on earlier runs before they are asked for.
+ */
+public class ThumbnailCache {
+
+    public static final String DIRECTORY_NAME = "thumbnails";
+
+    private static final Logger logger = LogsCenter.getLogger(ThumbnailCache.class);
+
+    private static final String THUMBNAIL_FORMAT = "png";
+    private static final String SOURCES_FILE_NAME = "sources.txt";
+
+    private final Path directory;
+    private final int size;
+    private final Executor executor;
+    private final Function<String, URL> resourceLocator;
+
+    // The thumbnails made or found so far, by the path of their source image.
+    private final Map<String, Path> thumbnails = new ConcurrentHashMap<>();
+    // The source images whose thumbnails are being made, or could not be made.
+    private final Set<String> attemptedResources = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a cache of thumbnails of the app's image resources in {@code directory}, each fitting within
+     * {@code size} by {@code size} pixels, that are made on {@code executor}.
+     */
+    public ThumbnailCache(Path directory, int size, Executor executor) {
+        this(directory, size, executor, ThumbnailCache.class::getResource);
+    }
+
+    /**
+     * Creates a cache of thumbnails in {@code directory} of the images that {@code resourceLocator} finds for
+     * each resource path, or null if there is no such image.
+     */
+    ThumbnailCache(Path directory, int size, Executor executor, Function<String, URL> resourceLocator) {
+        requireNonNull(directory);
+        requireNonNull(executor);
+        requireNonNull(resourceLocator);
+        checkArgument(size > 0, "Thumbnail size must be positive.");
+        this.directory = directory;
+        this.size = size;
+        this.executor = executor;
+        this.resourceLocator = resourceLocator;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Finds the thumbnails of every source image listed in the directory, making those whose source image has
+     * changed, and deletes the thumbnails of images that have changed since. Meant to be run once after the app
+     * starts, on the executor that thumbnails are made on.
+     */
+    public void warmUp() {
+        Path sourcesFile = directory.resolve(SOURCES_FILE_NAME);
+        if (!Files.exists(sourcesFile)) {
+            return;
+        }
+        try {
+            for (String resourcePath : Files.readAllLines(sourcesFile, StandardCharsets.UTF_8)) {
+                if (!resourcePath.isBlank() && attemptedResources.add(resourcePath)) {
+                    try {
+                        makeThumbnail(resourcePath);
+                    } catch (IOException e) {
+                        logger.info("Dropping the thumbnail of " + resourcePath + " " + StringUtil.getDetails(e));
+                    }
+                }
+            }
+            saveSources();
+            deleteUnusedThumbnails();
+        } catch (IOException e) {
+            logger.warning("Failed to read the thumbnail sources " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void deleteUnusedThumbnails() throws IOException {
+        Set<Path> usedThumbnails = Set.copyOf(thumbnails.values());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*-" + size + "." + THUMBNAIL_FORMAT)) {
+            for (Path file : files) {
+                if (!usedThumbnails.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the thumbnail of the image resource at {@code resourcePath} if it is ready. Otherwise, starts making
+     * it if that has not been tried yet, and returns nothing.
+     */
+    public Optional<Path> getThumbnail(String resourcePath) {
+        requireNonNull(resourcePath);
+        Path thumbnail = thumbnails.get(resourcePath);
+        if (thumbnail == null && attemptedResources.add(resourcePath)) {
+            executor.execute(() -> {
+                try {
+                    makeThumbnail(resourcePath);
+                    saveSources();
+                } catch (IOException e) {
+                    logger.warning("Failed to make a thumbnail of " + resourcePath + " " + StringUtil.getDetails(e));
+                }
+            });
+            thumbnail = thumbnails.get(resourcePath);
+        }
+        return Optional.ofNullable(thumbnail);
+    }
+
+    /**
+     * Returns the thumbnail of the image resource at {@code resourcePath}, making it first unless a thumbnail of
+     * the same image already exists in the directory.
+     *
+     * @throws IOException if there is no such image resource, or it cannot be read or its thumbnail written.
+     */
+    Path makeThumbnail(String resourcePath) throws IOException {
+        URL resource = resourceLocator.apply(resourcePath);
+        if (resource == null) {
+            throw new IOException("There is no image at " + resourcePath);
+        }
+        byte[] source;
+        try (InputStream in = resource.openStream()) {
+            source = in.readAllBytes();
+        }
+
+        Path thumbnail = directory.resolve(hashOf(source) + "-" + size + "." + THUMBNAIL_FORMAT);
+        if (!Files.exists(thumbnail)) {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(source));
+            if (image == null) {
+                throw new IOException(resourcePath + " is not in a known image format");
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            ImageIO.write(scale(image, size), THUMBNAIL_FORMAT, content);
+            FileUtil.writeToFileAtomically(thumbnail, content.toByteArray(), false);
+            logger.fine("Made thumbnail " + thumbnail + " of " + resourcePath);
+        }
+        thumbnails.put(resourcePath, thumbnail);
+        return thumbnail;
+    }
+
+    /**
+     * Lists the source images of the thumbnails made so far in the directory.
+     */
+    private synchronized void saveSources() throws IOException {
+        String sources = thumbnails.keySet().stream().sorted().collect(Collectors.joining("\n", "", "\n"));
+        byte[] content = sources.getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(directory.resolve(SOURCES_FILE_NAME), content, false);
+    }
+
+    /**
+     * Returns {@code image} scaled down to fit within {@code size} by {@code size} pixels, keeping its
+     * proportions. The image is halved until it is close to that size, so that every pixel of it is sampled.
+     */
+    private static BufferedImage scale(BufferedImage image, int size) {
+        double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage scaled = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(scaled, 0, 0, width, height, null);
+            graphics.dispose();
+            scaled = step;
+        } while (width != targetWidth || height != targetHeight);
+        return scaled;
+    }
+
+    private static String hashOf(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hash = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+import seedu.address.model.food.MenuItem;
+import seedu.address.model.food.Money;
+import seedu.address.model.menu.Menu;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.vendor.Address;
+import seedu.address.model.vendor.Email;
+import seedu.address.model.vendor.Name;
+import seedu.address.model.vendor.Phone;
+import seedu.address.model.vendor.ReadOnlyVendorManager;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.vendor.VendorManager;
+
+/**
+ * Reads and writes binary snapshots of already validated vendors, which load much faster than the JSON data
+ * file they were taken from.
+ * A snapshot holds every distinct string once in a string table, and every distinct tag once in a tag
+ * dictionary. Each menu is stored as parallel arrays of string indexes and prices in cents. The snapshot
+ * records the checksum of the JSON data file it matches, and ends with a checksum of its own content.
+ */
+final class VendorSnapshot {
+
+    static final int MAGIC = 0x53535653;
+    static final int VERSION = 1;
+
+    // Mapping a file has a fixed cost, and keeps the file open until the mapping is collected.
+    private static final long MAP_THRESHOLD = 1024 * 1024;
+    private static final int HEADER_SIZE = 16;
+    private static final int TRAILER_SIZE = 4;
+
+    private VendorSnapshot() {}
+
+    /**
+     * Returns the checksum of {@code content}, as recorded in snapshots.
+     */
+    static long checksumOf(byte[] content) {
+        return checksumOf(ByteBuffer.wrap(content));
+    }
+
+    /**
+     * Returns the checksum of the contents of {@code file}, as recorded in snapshots.
+     */
+    static long checksumOf(Path file) throws IOException {
+        return checksumOf(readBuffer(file));
+    }
+
+    private static long checksumOf(ByteBuffer content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the snapshot of {@code vendorManager}, taken from a JSON data file with {@code sourceChecksum}.
+     */
+    static byte[] toBytes(ReadOnlyVendorManager vendorManager, long sourceChecksum) {
+        requireNonNull(vendorManager);
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<Tag, Integer> tags = new LinkedHashMap<>();
+        ByteArrayOutputStream vendorBytes = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(vendorBytes);
+            out.writeInt(vendorManager.getVendorList().size());
+            for (Vendor vendor : vendorManager.getVendorList()) {
+                out.writeInt(indexOf(strings, vendor.getName().fullName));
+                out.writeInt(indexOf(strings, vendor.getPhone().value));
+                out.writeInt(indexOf(strings, vendor.getEmail().value));
+                out.writeInt(indexOf(strings, vendor.getAddress().value));
+                writeTags(out, vendor.getTags(), tags, strings);
+                writeMenu(out, vendor.getMenu(), tags, strings);
+            }
+
+            ByteArrayOutputStream snapshot = new ByteArrayOutputStream(vendorBytes.size() + 64 * strings.size());
+            DataOutputStream snapshotOut = new DataOutputStream(snapshot);
+            snapshotOut.writeInt(MAGIC);
+            snapshotOut.writeInt(VERSION);
+            snapshotOut.writeLong(sourceChecksum);
+            snapshotOut.writeInt(strings.size());
+            for (String string : strings.keySet()) {
+                byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+                snapshotOut.writeInt(encoded.length);
+                snapshotOut.write(encoded);
+            }
+            snapshotOut.writeInt(tags.size());
+            for (Tag tag : tags.keySet()) {
+                snapshotOut.writeInt(strings.get(tag.tagName));
+            }
+            vendorBytes.writeTo(snapshotOut);
+            CRC32C crc = new CRC32C();
+            crc.update(snapshot.toByteArray());
+            snapshotOut.writeInt((int) crc.getValue());
+            return snapshot.toByteArray();
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory does not fail", e);
+        }
+    }
+
+    private static void writeMenu(DataOutputStream out, Menu menu, Map<Tag, Integer> tags,
+            Map<String, Integer> strings) throws IOException {
+        List<MenuItem> menuItems = new ArrayList<>();
+        menu.forEach(menuItems::add);
+        out.writeInt(menuItems.size());
+        for (MenuItem menuItem : menuItems) {
+            out.writeInt(indexOf(strings, menuItem.getName()));
+        }
+        for (MenuItem menuItem : menuItems) {
+            out.writeInt(indexOf(strings, menuItem.getFilePath()));
+        }
+        for (MenuItem menuItem : menuItems) {
+            out.writeLong(menuItem.getPrice().getCents());
+        }
+        for (MenuItem menuItem : menuItems) {
+            writeTags(out, menuItem.getTags(), tags, strings);
+        }
+    }
+
+    private static void writeTags(DataOutputStream out, Set<Tag> toWrite, Map<Tag, Integer> tags,
+            Map<String, Integer> strings) throws IOException {
+        out.writeInt(toWrite.size());
+        for (Tag tag : toWrite) {
+            indexOf(strings, tag.tagName);
+            out.writeInt(tags.computeIfAbsent(tag, unused -> tags.size()));
+        }
+    }
+
+    private static int indexOf(Map<String, Integer> strings, String string) {
+        return strings.computeIfAbsent(string, unused -> strings.size());
+    }
+
+    /**
+     * Returns the vendors in the snapshot {@code file}, checking that the snapshot is intact and was taken from a
+     * JSON data file with {@code sourceChecksum}. Only names, phones, emails, addresses and distinct tags are
+     * validated again; menu items are trusted as they were written.
+     *
+     * @throws IOException if the snapshot cannot be read, is damaged, or was taken from another JSON data file.
+     */
+    static VendorManager read(Path file, long sourceChecksum) throws IOException {
+        ByteBuffer buffer = readBuffer(file);
+        if (buffer.remaining() < HEADER_SIZE + TRAILER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException(file + " is not a vendor snapshot");
+        }
+        if (buffer.getInt() != VERSION) {
+            throw new IOException(file + " was written by another version");
+        }
+        if (buffer.getLong() != sourceChecksum) {
+            throw new IOException(file + " was taken from another version of the data file");
+        }
+        int contentLength = buffer.limit() - TRAILER_SIZE;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(0).limit(contentLength));
+        if (buffer.getInt(contentLength) != (int) crc.getValue()) {
+            throw new IOException(file + " is damaged");
+        }
+        buffer.limit(contentLength);
+
+        try {
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] encoded = new byte[buffer.getInt()];
+                buffer.get(encoded);
+                strings[i] = new String(encoded, StandardCharsets.UTF_8);
+            }
+            Tag[] tags = new Tag[buffer.getInt()];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = new Tag(strings[buffer.getInt()]);
+            }
+
+            int vendorCount = buffer.getInt();
+            List<Vendor> vendors = new ArrayList<>();
+            for (int i = 0; i < vendorCount; i++) {
+                Name name = new Name(strings[buffer.getInt()]);
+                Phone phone = new Phone(strings[buffer.getInt()]);
+                Email email = new Email(strings[buffer.getInt()]);
+                Address address = new Address(strings[buffer.getInt()]);
+                Set<Tag> vendorTags = readTags(buffer, tags);
+                vendors.add(new Vendor(name, phone, email, address, vendorTags, readMenu(buffer, strings, tags)));
+            }
+            VendorManager vendorManager = new VendorManager();
+            vendorManager.setVendors(vendors);
+            return vendorManager;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | IllegalArgumentException e) {
+            throw new IOException(file + " does not hold valid vendors", e);
+        }
+    }
+
+    private static Menu readMenu(ByteBuffer buffer, String[] strings, Tag[] tags) {
+        int size = buffer.getInt();
+        int[] names = new int[size];
+        buffer.asIntBuffer().get(names);
+        buffer.position(buffer.position() + Integer.BYTES * size);
+        int[] filePaths = new int[size];
+        buffer.asIntBuffer().get(filePaths);
+        buffer.position(buffer.position() + Integer.BYTES * size);
+        long[] cents = new long[size];
+        buffer.asLongBuffer().get(cents);
+        buffer.position(buffer.position() + Long.BYTES * size);
+
+        List<MenuItem> menuItems = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            menuItems.add(new MenuItem(strings[names[i]], Money.ofCents(cents[i]), readTags(buffer, tags),
+                    strings[filePaths[i]]));
+        }
+        Menu menu = new Menu();
+        menu.addAll(menuItems);
+        return menu;
+    }
+
+    private static Set<Tag> readTags(ByteBuffer buffer, Tag[] tags) {
+        int size = buffer.getInt();
+        Set<Tag> readTags = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            readTags.add(tags[buffer.getInt()]);
+        }
+        return readTags;
+    }
+
+    /**
+     * Returns the contents of {@code file}, mapped into memory if the file is large.
+     */
+    private static ByteBuffer readBuffer(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAP_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is in the buffer.
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+}
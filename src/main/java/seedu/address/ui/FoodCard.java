@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.Comparator;
 
+import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -17,7 +18,11 @@ import seedu.address.model.food.MenuItem;
  */
 public class FoodCard extends UiPart<Region> {
 
+    public static final int IMAGE_SIZE = 120;
+
     private static final String FXML = "FoodListCard.fxml";
+    private static final String IMAGE_DIRECTORY = "/images/food/";
+    private static final String PLACEHOLDER_IMAGE_PATH = IMAGE_DIRECTORY + "default-menu-item.jpg";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -27,7 +32,10 @@ public class FoodCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on VendorManager level 4</a>
      */
 
-    public final MenuItem item;
+    private MenuItem item;
+    // The image being loaded for the item, and the listener that shows it once it is ready.
+    private Image loadingImage;
+    private ChangeListener<Number> loadingListener;
 
     @FXML
     private HBox cardPane;
@@ -48,26 +56,72 @@ public class FoodCard extends UiPart<Region> {
      */
     public FoodCard(MenuItem item, int displayedIndex) {
         super(FXML);
+        imageView.setFitHeight(IMAGE_SIZE);
+        imageView.setFitWidth(IMAGE_SIZE);
+        setItem(item, displayedIndex);
+    }
+
+    public MenuItem getItem() {
+        return item;
+    }
+
+    /**
+     * Shows {@code item} at {@code displayedIndex} in this card instead, so that the card can be reused.
+     */
+    public void setItem(MenuItem item, int displayedIndex) {
         this.item = item;
         id.setText(displayedIndex + ". ");
         name.setText(item.getName());
         price.setText(item.getPriceString());
+        tags.getChildren().clear();
         item.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        System.out.println(item.getFilePath());
+        showImage(item.getFilePath());
+    }
 
-        try {
-            Image image = new Image(this.getClass().getResourceAsStream("/images/food/" + item.getFilePath()));
+    /**
+     * Shows the image at {@code filePath} in the food images, and the placeholder image until it has been
+     * decoded, or instead of it if it cannot be loaded.
+     */
+    private void showImage(String filePath) {
+        stopLoadingImage();
+        ImageCache imageCache = ImageCache.getInstance();
+        Image placeholder = imageCache.get(PLACEHOLDER_IMAGE_PATH, IMAGE_SIZE, IMAGE_SIZE);
+        Image image = filePath == null || filePath.isBlank()
+                ? null
+                : imageCache.get(IMAGE_DIRECTORY + filePath, IMAGE_SIZE, IMAGE_SIZE);
+        if (image == null || image.isError()) {
+            imageView.setImage(placeholder);
+            return;
+        }
+        if (image.getProgress() >= 1) {
             imageView.setImage(image);
-        } catch (NullPointerException e) {
-            Image defaultImage = new Image(this.getClass()
-                    .getResourceAsStream("/images/food/default-menu-item.jpg"));
-            imageView.setImage(defaultImage);
+            return;
         }
 
-        imageView.setFitHeight(120);
-        imageView.setFitWidth(120);
+        imageView.setImage(placeholder);
+        // Removed once the image is loaded or the card shows another item, so that the cached image does not
+        // keep this card alive, or show up in it later.
+        loadingImage = image;
+        loadingListener = (observable, oldProgress, newProgress) -> {
+            if (newProgress.doubleValue() < 1) {
+                return;
+            }
+            stopLoadingImage();
+            if (!image.isError()) {
+                imageView.setImage(image);
+            }
+        };
+        image.progressProperty().addListener(loadingListener);
+    }
+
+    private void stopLoadingImage() {
+        if (loadingImage != null) {
+            loadingImage.progressProperty().removeListener(loadingListener);
+            loadingImage = null;
+            loadingListener = null;
+        }
     }
 
     @Override
@@ -29,10 +29,24 @@ public class FoodListPanel extends UiPart<Region> {
         foodListView.setCellFactory(listView -> new MenuItemListViewCell());
     }
 
+    /**
+     * Shows {@code menuItemList} instead of the list shown now, reusing the cells that are already built.
+     */
+    public void setMenuItemList(ObservableList<MenuItem> menuItemList) {
+        if (foodListView.getItems() == menuItemList) {
+            return;
+        }
+        foodListView.setItems(menuItemList);
+        foodListView.scrollTo(0);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Food} using a {@code FoodCard}.
+     * The card is built once per cell, and shows whichever item the cell is reused for.
      */
     class MenuItemListViewCell extends ListCell<MenuItem> {
+        private FoodCard foodCard;
+
         @Override
         protected void updateItem(MenuItem item, boolean empty) {
             super.updateItem(item, empty);
@@ -41,7 +55,12 @@ public class FoodListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new FoodCard(item, getIndex() + 1).getRoot());
+                if (foodCard == null) {
+                    foodCard = new FoodCard(item, getIndex() + 1);
+                } else {
+                    foodCard.setItem(item, getIndex() + 1);
+                }
+                setGraphic(foodCard.getRoot());
             }
         }
     }
@@ -0,0 +1,97 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.scene.image.Image;
+import seedu.address.MainApp;
+import seedu.address.storage.ThumbnailCache;
+
+/**
+ * Loads images from the app's resources at the size they are displayed at, and keeps the most recently used of
+ * them so that cards showing the same image share one decoded copy.
+ * Images are decoded in the background, so an image returned by {@link #get(String, double, double)} may still
+ * be loading; its {@code progressProperty()} reaches 1 once it is ready.
+ * Small images are loaded from the thumbnails of a {@code ThumbnailCache} where they have been made.
+ */
+public class ImageCache {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final ImageCache instance = new ImageCache(DEFAULT_CAPACITY);
+
+    // In order of use, least recently used first. Guarded by this.
+    private final Map<String, Image> images;
+    private ThumbnailCache thumbnailCache;
+
+    /**
+     * Creates a cache that keeps at most {@code capacity} images.
+     */
+    public ImageCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by the whole UI.
+     */
+    public static ImageCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Sets the thumbnails to load images that fit within them from.
+     */
+    public synchronized void setThumbnailCache(ThumbnailCache thumbnailCache) {
+        this.thumbnailCache = thumbnailCache;
+    }
+
+    /**
+     * Returns the image at {@code resourcePath}, scaled to fit within {@code width} by {@code height} while
+     * keeping its proportions, or null if there is no such resource.
+     * An image that failed to load is loaded again the next time it is asked for.
+     */
+    public synchronized Image get(String resourcePath, double width, double height) {
+        requireNonNull(resourcePath);
+        String key = resourcePath + "@" + width + "x" + height;
+        Image image = images.get(key);
+        if (image != null && !image.isError()) {
+            return image;
+        }
+
+        String url = findUrl(resourcePath, width, height);
+        if (url == null) {
+            images.remove(key);
+            return null;
+        }
+        image = new Image(url, width, height, true, true, true);
+        images.put(key, image);
+        return image;
+    }
+
+    /**
+     * Returns the URL to load the image at {@code resourcePath} from, preferring its thumbnail if it fits
+     * within it, or null if there is no such resource.
+     */
+    private String findUrl(String resourcePath, double width, double height) {
+        if (thumbnailCache != null && width <= thumbnailCache.getSize() && height <= thumbnailCache.getSize()) {
+            Optional<Path> thumbnail = thumbnailCache.getThumbnail(resourcePath);
+            if (thumbnail.isPresent()) {
+                return thumbnail.get().toUri().toString();
+            }
+        }
+        URL url = MainApp.class.getResource(resourcePath);
+        return url == null ? null : url.toExternalForm();
+    }
+}
@@ -120,7 +120,8 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up all the placeholders of this window, showing the menu if a vendor is already selected, e.g. one
+     * recovered from the order journal.
      */
     void fillInnerParts() {
         foodListPanel = new FoodListPanel(logic.getFilteredMenuItemList());
@@ -139,6 +140,8 @@ public class MainWindow extends UiPart<Stage> {
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        updateMode();
     }
 
     /**
@@ -169,8 +172,7 @@ public class MainWindow extends UiPart<Stage> {
     void updateMode() {
         boolean bool = logic.isSelected();
 
-        foodListPanel = new FoodListPanel(logic.getFilteredMenuItemList());
-        foodListPanelPlaceholder.getChildren().add(foodListPanel.getRoot());
+        foodListPanel.setMenuItemList(logic.getFilteredMenuItemList());
 
         setVendorListDisplay(!bool);
         setFoodListDisplay(bool);
@@ -1,11 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.TestUtil;
+
 public class FileUtilTest {
 
     @Test
@@ -20,4 +30,19 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedWithoutTempFiles() throws Exception {
+        Path directory = TestUtil.getFilePathInSandboxFolder("atomicWrite");
+        Path file = directory.resolve("data.json");
+        FileUtil.writeToFile(file, "old contents");
+
+        FileUtil.writeToFileAtomically(file, "new".getBytes(StandardCharsets.UTF_8), true);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(file.toAbsolutePath()),
+                    files.map(Path::toAbsolutePath).collect(Collectors.toList()));
+        }
+    }
+
 }
@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +47,93 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_compactOutput_singleLineReadBack() throws Exception {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.setCompactOutput(true);
+        try {
+            JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE);
+        } finally {
+            JsonUtil.setCompactOutput(false);
+        }
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertEquals(json.length() - 1, json.indexOf('\n'));
+        assertTrue(json.length() < SerializableTestClass.JSON_STRING_REPRESENTATION.length());
+        SerializableTestClass readBack = JsonUtil.readJsonFile(SERIALIZATION_FILE, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+    }
+
+    @Test
+    public void isJsonFileUpToDate_savedThenChanged_falseOnlyAfterChange() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{}");
+        assertFalse(JsonUtil.isJsonFileUpToDate(serializableTestClass, SERIALIZATION_FILE));
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE);
+        assertTrue(JsonUtil.isJsonFileUpToDate(serializableTestClass, SERIALIZATION_FILE));
+        assertFalse(JsonUtil.isJsonFileUpToDate(new SerializableTestClass(), SERIALIZATION_FILE));
+        assertFalse(JsonUtil.isJsonFileUpToDate(serializableTestClass,
+                TestUtil.getFilePathInSandboxFolder("missing.json")));
+    }
+
+    @Test
+    public void readJsonArrayField_arrayAmongOtherFields_handlesEachElementInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"before\": { \"items\": [9] }, \"items\": [1, 2, 3],"
+                + " \"after\": [4] }");
+        List<Integer> elements = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "items", Integer.class, elements::add));
+        assertEquals(List.of(1, 2, 3), elements);
+    }
+
+    @Test
+    public void readJsonArrayField_withFieldHandlers_handlesNamedFields() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"version\": 2, \"items\": [1, 2], \"after\": [4] }");
+        List<Integer> elements = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "items", Integer.class, elements::add,
+                Map.of("version", version -> elements.add(version.asInt() * 100))));
+        assertEquals(List.of(200, 1, 2), elements);
+    }
+
+    @Test
+    public void readJsonArrayField_missingField_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"other\": [1] }");
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "items", Integer.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayField_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArrayField(missingFile, "items", Integer.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayField_handlerRejectsElement_stopsReading() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"items\": [1, 2, 3] }");
+        List<Integer> elements = new ArrayList<>();
+
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "items",
+                Integer.class, element -> {
+                    elements.add(element);
+                    if (element == 2) {
+                        throw new IllegalValueException("rejected");
+                    }
+                }));
+        assertEquals(List.of(1, 2), elements);
+    }
+
+    @Test
+    public void readJsonArrayField_notJsonObject_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[1, 2, 3]");
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "items", Integer.class, element -> { }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -7,7 +7,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalVendors.getManagers;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,11 +18,13 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.OrderJournalEntry;
 import seedu.address.model.order.OrderManager;
 import seedu.address.model.vendor.ReadOnlyVendorManager;
 import seedu.address.model.vendor.VendorManager;
@@ -29,6 +33,7 @@ import seedu.address.storage.JsonProfileManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonVendorManagerStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StorageWriter;
 import seedu.address.testutil.TypicalVendors;
 
 public class LogicManagerTest {
@@ -105,6 +110,29 @@ public class LogicManagerTest {
     //        assertEquals(this.book, logic.getVendorManager());
     //    }
 
+    @Test
+    public void execute_backgroundSaveFailed_throwsCommandExceptionOnce() throws Exception {
+        StorageWriter storageWriter = StorageWriter.createAsync(false);
+        try {
+            StorageManager storage = new StorageManager(
+                    new JsonVendorManagerStorage(temporaryFolder.resolve("vendorManager.json")),
+                    new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                    new JsonPresetManagerStorage(temporaryFolder.resolve("presets.json")),
+                    new JsonProfileManagerStorage(temporaryFolder.resolve("profile.json")),
+                    Runnable::run, storageWriter);
+            logic = new LogicManager(model, storage);
+            Path notDirectory = temporaryFolder.resolve("notDirectory");
+            Files.writeString(notDirectory, "a file, not a directory");
+            storageWriter.write(notDirectory.resolve("data.json"), new byte[0]);
+            storageWriter.awaitPendingWrites();
+
+            assertThrows(CommandException.class, () -> logic.execute(HelpCommand.COMMAND_WORD));
+            logic.execute(HelpCommand.COMMAND_WORD);
+        } finally {
+            storageWriter.close();
+        }
+    }
+
     @Test
     public void getFilteredVendorList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getObservableVendorList().remove(0));
@@ -126,6 +154,18 @@ public class LogicManagerTest {
         assertTrue(logic.isSelected());
     }
 
+    @Test
+    public void isSelected_vendorRecoveredFromJournal_returnsTrue() {
+        OrderManager recoveredOrderManager = new OrderManager();
+        recoveredOrderManager.replay(List.of(OrderJournalEntry.vendor(1)));
+        Model recoveredModel = new ModelManager(book, userPrefs, getManagers(), recoveredOrderManager);
+        Logic recoveredLogic = new LogicManager(recoveredModel, null);
+
+        assertTrue(recoveredLogic.isSelected());
+        assertEquals(1, recoveredModel.getVendorIndex());
+        assertEquals(getManagers().get(1).getMenuItemList(), recoveredLogic.getFilteredMenuItemList());
+    }
+
     @Test
     public void getVendorManagerFilePath_success() {
         assertEquals(userPrefs.getVendorManagerFilePath(), logic.getVendorManagerFilePath());
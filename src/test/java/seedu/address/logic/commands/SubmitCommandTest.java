@@ -123,7 +123,7 @@ public class SubmitCommandTest {
         for (int i = 0; i < 5; i++) {
             OrderItem orderItem = new OrderItem(menu.get(i), i + 6);
             expectedMessage.append(String.format("%s x %d\n", orderItem.getName(), i + 6));
-            calculatedTotal += orderItem.getPrice() * (i + 6);
+            calculatedTotal += orderItem.getPrice().toDouble() * (i + 6);
             try {
                 model.addOrderItem(orderItem);
                 expectedModel.addOrderItem(orderItem);
@@ -24,7 +24,7 @@ public class TotalCommandTest {
         double calculatedTotal = 0;
         for (int i = 0; i < 5; i++) {
             OrderItem orderItem = new OrderItem(menu.get(i), i + 6);
-            calculatedTotal += orderItem.getPrice() * (i + 6);
+            calculatedTotal += orderItem.getPrice().toDouble() * (i + 6);
             try {
                 model.addOrderItem(orderItem);
                 expectedModel.addOrderItem(orderItem);
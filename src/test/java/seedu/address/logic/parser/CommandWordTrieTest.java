@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandWordTrieTest {
+
+    private final CommandWordTrie<String> trie = new CommandWordTrie<>();
+
+    public CommandWordTrieTest() {
+        trie.register("price", "PRICE");
+        trie.register("profile", "PROFILE");
+        trie.register("preset", "PRESET");
+        trie.register("tag", "TAG");
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.register("tag", "UNTAG"));
+    }
+
+    @Test
+    public void register_emptyCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.register("", "EMPTY"));
+    }
+
+    @Test
+    public void find_uniquePrefix_returnsValue() {
+        assertEquals("PROFILE", trie.find("pro"));
+        assertEquals("PRESET", trie.find("preset"));
+        assertEquals("TAG", trie.find("t"));
+    }
+
+    @Test
+    public void find_ambiguousOrUnknownPrefix_returnsNull() {
+        assertNull(trie.find("pr"));
+        assertNull(trie.find(""));
+        assertNull(trie.find("untag"));
+        assertNull(trie.find("tags"));
+    }
+
+    @Test
+    public void wordsStartingWith_prefix_returnsWordsInRegistrationOrder() {
+        assertEquals(List.of("price", "profile", "preset"), trie.wordsStartingWith("pr"));
+        assertEquals(List.of(), trie.wordsStartingWith("x"));
+    }
+}
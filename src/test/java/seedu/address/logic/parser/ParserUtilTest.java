@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_INDEX;
@@ -193,4 +194,16 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void checkPresetSyntax_modePrefix_returnsFullMode() throws Exception {
+        assertArrayEquals(new String[] {"load", "Preset 2"}, ParserUtil.checkPresetSyntax(" lo Preset 2"));
+        assertArrayEquals(new String[] {"delete", ""}, ParserUtil.checkPresetSyntax("d"));
+    }
+
+    @Test
+    public void checkPresetSyntax_unknownMode_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.checkPresetSyntax("list Preset"));
+        assertThrows(ParseException.class, () -> ParserUtil.checkPresetSyntax("   "));
+    }
 }
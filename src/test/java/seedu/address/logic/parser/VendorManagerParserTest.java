@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -76,4 +77,16 @@ public class VendorManagerParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_uniquePrefix_success() throws Exception {
+        assertTrue(parser.parseCommand("he") instanceof HelpCommand);
+        assertTrue(parser.parseCommand("cl") instanceof ClearCommand);
+    }
+
+    @Test
+    public void parseCommand_ambiguousPrefix_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "[price, profile, preset]"), ()
+            -> parser.parseCommand("pr"));
+    }
 }
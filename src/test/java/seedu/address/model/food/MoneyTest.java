@@ -0,0 +1,56 @@
+package seedu.address.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    public void of_invalidAmount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of(2.555));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(Double.NaN));
+    }
+
+    @Test
+    public void of_validAmount_exactCents() {
+        assertEquals(120, Money.of(1.2).getCents());
+        assertEquals(1390, Money.of(13.90).getCents());
+        assertEquals(Money.ofCents(30), Money.of(0.1).times(3));
+    }
+
+    @Test
+    public void isValidAmount() {
+        assertTrue(Money.isValidAmount(0));
+        assertTrue(Money.isValidAmount(2.54));
+        assertTrue(Money.isValidAmount(1.2));
+        assertFalse(Money.isValidAmount(2.555));
+        assertFalse(Money.isValidAmount(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void floorCentsAndCeilCents() {
+        assertEquals(220, Money.floorCents(2.2));
+        assertEquals(220, Money.ceilCents(2.2));
+        assertEquals(225, Money.floorCents(2.255));
+        assertEquals(226, Money.ceilCents(2.255));
+    }
+
+    @Test
+    public void toString_formatsToTwoDecimalPlaces() {
+        assertEquals("$1.00", Money.ofCents(100).toString());
+        assertEquals("$0.05", Money.ofCents(5).toString());
+        assertEquals("$17.90", Money.of(17.9).toString());
+        assertEquals("-$1.50", Money.ofCents(-150).toString());
+    }
+
+    @Test
+    public void compareTo() {
+        assertTrue(Money.of(1.5).compareTo(Money.of(1.2)) > 0);
+        assertEquals(0, Money.of(1.5).compareTo(Money.ofCents(150)));
+        assertEquals(Money.of(3.5), Money.of(1.5).plus(Money.of(2)));
+    }
+}
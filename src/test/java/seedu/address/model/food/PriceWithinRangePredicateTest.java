@@ -0,0 +1,51 @@
+package seedu.address.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.enums.Inequality;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.MenuItemBuilder;
+
+public class PriceWithinRangePredicateTest {
+
+    private final MenuItem itemAt225 = new MenuItemBuilder().withPrice(2.25).build();
+    private final MenuItem itemAt226 = new MenuItemBuilder().withPrice(2.26).build();
+
+    @Test
+    public void constructor_negativePrice_throwsParseException() {
+        assertThrows(ParseException.class, () -> new PriceWithinRangePredicate(Inequality.LESSER_THAN, -1));
+    }
+
+    @Test
+    public void test_wholeCentBound_comparesExactly() throws ParseException {
+        assertTrue(new PriceWithinRangePredicate(Inequality.LESSER_THAN_OR_EQUAL_TO, 2.25).test(itemAt225));
+        assertFalse(new PriceWithinRangePredicate(Inequality.LESSER_THAN, 2.25).test(itemAt225));
+        assertTrue(new PriceWithinRangePredicate(Inequality.GREATER_THAN_OR_EQUAL_TO, 2.25).test(itemAt225));
+        assertFalse(new PriceWithinRangePredicate(Inequality.GREATER_THAN, 2.25).test(itemAt225));
+    }
+
+    @Test
+    public void test_fractionalCentBound_roundsTowardsInequality() throws ParseException {
+        assertTrue(new PriceWithinRangePredicate(Inequality.LESSER_THAN, 2.255).test(itemAt225));
+        assertFalse(new PriceWithinRangePredicate(Inequality.LESSER_THAN, 2.255).test(itemAt226));
+        assertFalse(new PriceWithinRangePredicate(Inequality.LESSER_THAN_OR_EQUAL_TO, 2.255).test(itemAt226));
+        assertTrue(new PriceWithinRangePredicate(Inequality.GREATER_THAN, 2.255).test(itemAt226));
+        assertFalse(new PriceWithinRangePredicate(Inequality.GREATER_THAN_OR_EQUAL_TO, 2.255).test(itemAt225));
+    }
+
+    @Test
+    public void getMinCentsAndMaxCents_matchTest() throws ParseException {
+        PriceWithinRangePredicate lessThan = new PriceWithinRangePredicate(Inequality.LESSER_THAN, 2.255);
+        assertEquals(Long.MIN_VALUE, lessThan.getMinCents());
+        assertEquals(226, lessThan.getMaxCents());
+
+        PriceWithinRangePredicate greaterThan = new PriceWithinRangePredicate(Inequality.GREATER_THAN, 2.25);
+        assertEquals(226, greaterThan.getMinCents());
+        assertEquals(Long.MAX_VALUE, greaterThan.getMaxCents());
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.menu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMenuItems.getTypicalMenuManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+public class MenuManagerRegistryTest {
+
+    private final int[] reads = new int[2];
+    private final List<Supplier<MenuManager>> sources = List.of(() -> {
+        reads[0]++;
+        return getTypicalMenuManager();
+    }, () -> {
+        reads[1]++;
+        return new MenuManager();
+    });
+
+    @Test
+    public void constructor_sourcesNotRead() {
+        MenuManagerRegistry registry = new MenuManagerRegistry(sources, null);
+        assertEquals(2, registry.size());
+        assertFalse(registry.isMaterialised(0));
+        assertEquals(0, reads[0] + reads[1]);
+    }
+
+    @Test
+    public void get_calledTwice_materialisesOnce() {
+        MenuManagerRegistry registry = new MenuManagerRegistry(sources, null);
+        MenuManager menuManager = registry.get(0);
+        assertSame(menuManager, registry.get(0));
+        assertEquals(getTypicalMenuManager().getMenuItemList(), menuManager.getMenuItemList());
+        assertTrue(registry.isMaterialised(0));
+        assertEquals(1, reads[0]);
+        assertEquals(0, reads[1]);
+    }
+
+    @Test
+    public void get_sourceReturnsMenuManager_keepsSameMenuManager() {
+        MenuManager sourced = new MenuManager();
+        MenuManagerRegistry registry = new MenuManagerRegistry(List.of(() -> sourced), null);
+        assertSame(sourced, registry.get(0));
+    }
+
+    @Test
+    public void warm_withExecutor_materialisesInBackground() {
+        List<Runnable> tasks = new ArrayList<>();
+        MenuManagerRegistry registry = new MenuManagerRegistry(sources, tasks::add);
+        registry.warm(1);
+        registry.warm(2);
+        registry.warm(-1);
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        assertTrue(registry.isMaterialised(1));
+    }
+
+    @Test
+    public void warm_withoutExecutor_doesNothing() {
+        MenuManagerRegistry registry = new MenuManagerRegistry(sources, null);
+        registry.warm(0);
+        assertFalse(registry.isMaterialised(0));
+    }
+
+    @Test
+    public void of_menuManagers_returnsSameMenuManagers() {
+        MenuManager menuManager = new MenuManager();
+        MenuManagerRegistry registry = MenuManagerRegistry.of(List.of(menuManager));
+        assertTrue(registry.isMaterialised(0));
+        assertSame(menuManager, registry.get(0));
+    }
+}
@@ -160,4 +160,23 @@ public class MenuManagerTest {
         assertEquals(menuManager.getMenuItemList(), sortedMenu.getMenuItemList());
     }
 
+    @Test
+    public void getSortedMenuItems_menuReordered_sameCachedOrder() {
+        menuManager.addMenuItem(CHEESE_PRATA);
+        menuManager.addMenuItem(PRATA);
+        menuManager.addMenuItem(MILO);
+        List<MenuItem> byPrice = menuManager.getSortedMenuItems(MenuSortKey.PRICE);
+        menuManager.sortMenuItemByName(false);
+        assertEquals(Arrays.asList(PRATA, MILO, CHEESE_PRATA), byPrice);
+        assertEquals(byPrice, menuManager.getSortedMenuItems(MenuSortKey.PRICE));
+    }
+
+    @Test
+    public void getSortedMenuItems_menuChanges_orderRebuilt() {
+        menuManager.addMenuItem(CHEESE_PRATA);
+        menuManager.addMenuItem(MILO);
+        menuManager.getSortedMenuItems(MenuSortKey.PRICE);
+        menuManager.addMenuItem(PRATA);
+        assertEquals(Arrays.asList(PRATA, MILO, CHEESE_PRATA), menuManager.getSortedMenuItems(MenuSortKey.PRICE));
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.address.model.menu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.food.MenuItem;
+import seedu.address.testutil.MenuItemBuilder;
+
+public class MenuPriceIndexTest {
+
+    private final MenuItem naan = new MenuItemBuilder().withName("Naan").withPrice(1.70).build();
+    private final MenuItem milo = new MenuItemBuilder().withName("Milo").withPrice(2).withTags("drinks").build();
+    private final MenuItem teh = new MenuItemBuilder().withName("Teh").withPrice(2).withTags("drinks").build();
+    private final MenuItem pattaya = new MenuItemBuilder().withName("Pattaya").withPrice(6.50).build();
+
+    private final Menu menu = new Menu();
+
+    @Test
+    public void getMenuItemsInPriceRange_boundsInclusiveExclusive_sortedByPrice() {
+        menu.setMenuItems(Arrays.asList(pattaya, milo, naan, teh));
+        assertEquals(Arrays.asList(naan), menu.getMenuItemsInPriceRange(Long.MIN_VALUE, 200));
+        assertEquals(Set.of(milo, teh), Set.copyOf(menu.getMenuItemsInPriceRange(200, 201)));
+        assertEquals(pattaya, menu.getMenuItemsInPriceRange(201, Long.MAX_VALUE).get(0));
+        assertTrue(menu.getMenuItemsInPriceRange(700, 650).isEmpty());
+    }
+
+    @Test
+    public void getMenuItemsInPriceRange_afterMenuChanges_rebuilt() {
+        menu.add(naan);
+        assertEquals(List.of(naan), menu.getMenuItemsInPriceRange(0, 1000));
+        menu.add(pattaya);
+        menu.remove(naan);
+        assertEquals(List.of(pattaya), menu.getMenuItemsInPriceRange(0, 1000));
+    }
+
+    @Test
+    public void search_keywordsWithinPriceRange_intersects() {
+        menu.setMenuItems(Arrays.asList(pattaya, milo, naan, teh));
+        assertEquals(Set.of(milo, teh), Set.copyOf(menu.search(List.of("drinks", "naan"), 200, 300)));
+        assertEquals(Set.of(naan), Set.copyOf(menu.search(List.of("a"), 0, 200)));
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.menu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.food.MenuItem;
+import seedu.address.model.vendor.NameContainsKeywordsPredicate;
+import seedu.address.testutil.MenuItemBuilder;
+
+public class MenuSearchIndexTest {
+
+    private final MenuItem miloDinosaur = new MenuItemBuilder().withName("Milo Dinosaur").withTags("drinks").build();
+    private final MenuItem plainPrata = new MenuItemBuilder().withName("Plain Prata").build();
+    private final MenuItem cheeseFries = new MenuItemBuilder().withName("Cheese Fries").withTags("sides").build();
+
+    private final Menu menu = new Menu();
+
+    @Test
+    public void search_substringOfNameOrTag_matchesLikePredicate() {
+        menu.setMenuItems(Arrays.asList(miloDinosaur, plainPrata, cheeseFries));
+        for (List<String> keywords : Arrays.asList(List.of("ILO"), List.of("rata", "side"), List.of("xyz"),
+                List.of("e"), List.of("dinosaur", "drinks"))) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<MenuItem> matches = menu.search(keywords);
+            for (MenuItem item : menu) {
+                assertEquals(predicate.test(item), matches.contains(item), keywords + " " + item);
+            }
+        }
+    }
+
+    @Test
+    public void search_afterRemoveAndEdit_reflectsMenu() {
+        menu.add(miloDinosaur);
+        menu.add(plainPrata);
+        menu.remove(miloDinosaur);
+        assertTrue(menu.search(List.of("milo")).isEmpty());
+
+        MenuItem eggPrata = new MenuItemBuilder().withName("Egg Prata").build();
+        menu.setMenuItem(plainPrata, eggPrata);
+        assertTrue(menu.search(List.of("plain")).isEmpty());
+        assertEquals(Collections.singleton(eggPrata), Set.copyOf(menu.search(List.of("egg"))));
+    }
+
+    @Test
+    public void add_longWords_indexesEachDistinctWordOnce() {
+        MenuSearchIndex index = new MenuSearchIndex();
+        String longWord = "supercalifragilisticexpialidocious".repeat(10);
+        for (int i = 0; i < 1000; i++) {
+            index.add(new MenuItemBuilder().withName(longWord + " Item" + i).withTags("drinks").build());
+        }
+        assertEquals(1000 + 2, index.size());
+    }
+
+    @Test
+    public void search_oneLetterKeyword_matchesEveryItem() {
+        MenuSearchIndex index = new MenuSearchIndex();
+        List<MenuItem> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(new MenuItemBuilder().withName("Item" + i).build());
+        }
+        index.setAll(items);
+        assertEquals(Set.copyOf(items), Set.copyOf(index.search(List.of("i"))));
+        assertEquals(1, index.search(List.of("m999")).size());
+
+        items.forEach(index::remove);
+        assertEquals(0, index.size());
+        assertTrue(index.search(List.of("i")).isEmpty());
+    }
+}
@@ -10,12 +10,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMenuItems.MILO;
 import static seedu.address.testutil.TypicalMenuItems.PRATA;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.food.MenuItem;
 import seedu.address.model.food.exceptions.DuplicateFoodException;
 import seedu.address.model.food.exceptions.FoodNotFoundException;
@@ -164,6 +166,56 @@ public class MenuTest {
         assertThrows(DuplicateFoodException.class, () -> menu.setMenuItems(listWithDuplicateMenuItems));
     }
 
+    @Test
+    public void addAll_uniqueMenuItems_appendsAll() {
+        menu.add(PRATA);
+        menu.addAll(Arrays.asList(MILO));
+        Menu expectedMenu = new Menu();
+        expectedMenu.add(PRATA);
+        expectedMenu.add(MILO);
+        assertEquals(expectedMenu, menu);
+        assertTrue(menu.contains(MILO));
+    }
+
+    @Test
+    public void addAll_duplicateWithinItems_throwsDuplicateFoodException() {
+        assertThrows(DuplicateFoodException.class, () -> menu.addAll(Arrays.asList(MILO, PRATA, MILO)));
+        assertEquals(new Menu(), menu);
+    }
+
+    @Test
+    public void addAll_duplicateOfExistingMenuItem_throwsDuplicateFoodException() {
+        menu.add(PRATA);
+        assertThrows(DuplicateFoodException.class, () -> menu.addAll(Arrays.asList(MILO, PRATA)));
+        assertFalse(menu.contains(MILO));
+    }
+
+    @Test
+    public void addAll_manyMenuItems_notifiesListenersOnce() {
+        List<MenuItem> items = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            items.add(new MenuItemBuilder().withName("Item " + i).withPrice(1 + i / 100.0).build());
+        }
+        int[] changes = {0};
+        menu.asUnmodifiableObservableList().addListener((ListChangeListener<MenuItem>) change -> changes[0]++);
+        menu.addAll(items);
+        assertEquals(1, changes[0]);
+        assertEquals(50000, menu.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void sortMenuItemByName_tiedPrices_sortedByPriceInNewMenuOrder() {
+        MenuItem apple = new MenuItemBuilder().withName("Apple").withPrice(2).build();
+        MenuItem banana = new MenuItemBuilder().withName("Banana").withPrice(2).build();
+        menu.setMenuItems(Arrays.asList(apple, banana));
+        assertEquals(Arrays.asList(apple, banana), menu.getSortedMenuItems(MenuSortKey.PRICE));
+
+        menu.sortMenuItemByName(false);
+        assertEquals(Arrays.asList(banana, apple), menu.getSortedMenuItems(MenuSortKey.PRICE));
+        assertEquals(Arrays.asList(banana, apple), menu.getMenuItemsInPriceRange(0, 1000));
+        assertEquals(Arrays.asList(banana, apple), menu.order(Arrays.asList(apple, banana), null));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
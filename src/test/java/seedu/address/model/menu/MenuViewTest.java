@@ -0,0 +1,164 @@
+package seedu.address.model.menu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.food.MenuItem;
+import seedu.address.testutil.MenuItemBuilder;
+
+public class MenuViewTest {
+
+    private final MenuItem naan = new MenuItemBuilder().withName("Naan").withPrice(1.70).build();
+    private final MenuItem milo = new MenuItemBuilder().withName("Milo").withPrice(2).build();
+    private final MenuItem pattaya = new MenuItemBuilder().withName("Pattaya").withPrice(6.50).build();
+
+    private final MenuManager menuManager = new MenuManager();
+    private final MenuView menuView;
+
+    public MenuViewTest() {
+        menuManager.setMenu(Arrays.asList(pattaya, milo, naan));
+        menuView = new MenuView(menuManager);
+    }
+
+    @Test
+    public void addFilter_manyFilters_appliesConjunctionToSameList() {
+        ObservableList<MenuItem> view = menuView.asUnmodifiableObservableList();
+        for (int i = 0; i < 100; i++) {
+            menuView.addFilter(item -> item.getPrice().getCents() < 1000);
+        }
+        menuView.addFilter(item -> item.getName().contains("a"));
+        menuView.addFilter(item -> item.getPrice().getCents() < 500);
+
+        assertSame(view, menuView.asUnmodifiableObservableList());
+        assertEquals(List.of(naan), view);
+    }
+
+    @Test
+    public void sortBy_withFilter_eachItemTestedOnce() {
+        AtomicInteger testCount = new AtomicInteger();
+        menuView.addFilter(item -> testCount.incrementAndGet() > 0);
+        menuView.sortBy(MenuSortKey.NAME, true);
+        menuView.sortBy(MenuSortKey.PRICE, false);
+        menuManager.addMenuItem(new MenuItemBuilder().withName("Nasi Lemak").withPrice(3).build());
+
+        assertEquals(4, testCount.get());
+        assertEquals(4, menuView.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void addFilter_newMenuItemRejected_laterFiltersNotTested() {
+        AtomicInteger laterTestCount = new AtomicInteger();
+        menuView.addFilter(item -> item.getPrice().getCents() < 500);
+        for (int i = 0; i < 100; i++) {
+            menuView.addFilter(item -> laterTestCount.incrementAndGet() > 0);
+        }
+        laterTestCount.set(0);
+        menuManager.addMenuItem(new MenuItemBuilder().withName("Nasi Lemak").withPrice(8).build());
+
+        assertEquals(0, laterTestCount.get());
+        assertEquals(List.of(milo, naan), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void find_keywords_showsMatchesInMenuOrder() {
+        menuView.find(List.of("a"));
+        assertEquals(List.of(pattaya, naan), menuView.asUnmodifiableObservableList());
+        menuView.find(List.of("n", "y"));
+        assertEquals(List.of(pattaya, naan), menuView.asUnmodifiableObservableList());
+        menuView.find(List.of("naa"));
+        assertEquals(List.of(naan), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void find_menuChanges_searchedAgain() {
+        menuView.find(List.of("nasi", "milo"));
+        menuView.sortBy(MenuSortKey.PRICE, false);
+        MenuItem nasiLemak = new MenuItemBuilder().withName("Nasi Lemak").withPrice(3).build();
+        menuManager.addMenuItem(nasiLemak);
+        assertEquals(List.of(nasiLemak, milo), menuView.asUnmodifiableObservableList());
+
+        MenuItem editedMilo = new MenuItemBuilder().withName("Milo Dinosaur").withPrice(2).build();
+        menuManager.setMenuItem(milo, editedMilo);
+        assertEquals(List.of(nasiLemak, editedMilo), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void filterByPrice_noOtherFilter_showsSliceByPrice() {
+        menuView.filterByPrice(0, 700);
+        assertEquals(List.of(naan, milo, pattaya), menuView.asUnmodifiableObservableList());
+        menuView.filterByPrice(180, Long.MAX_VALUE);
+        assertEquals(List.of(milo, pattaya), menuView.asUnmodifiableObservableList());
+        menuView.sortBy(MenuSortKey.NAME, false);
+        assertEquals(List.of(pattaya, milo), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void filterByPrice_withFind_showsMatchesInRange() {
+        menuView.find(List.of("a"));
+        menuView.filterByPrice(0, 500);
+        assertEquals(List.of(naan), menuView.asUnmodifiableObservableList());
+
+        MenuItem nasiLemak = new MenuItemBuilder().withName("Nasi Lemak").withPrice(3).build();
+        menuManager.addMenuItem(nasiLemak);
+        assertEquals(List.of(naan, nasiLemak), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortBy_replacesPreviousOrder() {
+        menuView.sortBy(MenuSortKey.NAME, true);
+        assertEquals(List.of(milo, naan, pattaya), menuView.asUnmodifiableObservableList());
+        menuView.sortBy(MenuSortKey.PRICE, false);
+        assertEquals(List.of(pattaya, milo, naan), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortBy_withFilter_keepsFilter() {
+        menuView.addFilter(item -> item.getPrice().getCents() > 180);
+        menuView.sortBy(MenuSortKey.PRICE, true);
+        assertEquals(List.of(milo, pattaya), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortBy_menuChanges_newItemSortedIn() {
+        menuView.sortBy(MenuSortKey.NAME, true);
+        MenuItem nasiLemak = new MenuItemBuilder().withName("Nasi Lemak").withPrice(3).build();
+        menuManager.addMenuItem(nasiLemak);
+        assertEquals(List.of(milo, naan, nasiLemak, pattaya), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void reset_showsWholeMenuInOriginalOrder() {
+        menuView.addFilter(item -> false);
+        menuView.sortBy(MenuSortKey.NAME, true);
+        menuView.reset();
+        assertEquals(List.of(pattaya, milo, naan), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_menuChanges_viewUpdated() {
+        menuView.addFilter(item -> item.getName().startsWith("N"));
+        MenuItem nasiLemak = new MenuItemBuilder().withName("Nasi Lemak").withPrice(3).build();
+        menuManager.addMenuItem(nasiLemak);
+        assertEquals(List.of(naan, nasiLemak), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void dispose_menuChanges_viewNotUpdated() {
+        menuView.dispose();
+        menuManager.addMenuItem(new MenuItemBuilder().withName("Nasi Lemak").withPrice(3).build());
+        assertEquals(List.of(pattaya, milo, naan), menuView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> menuView.asUnmodifiableObservableList().remove(0));
+    }
+}
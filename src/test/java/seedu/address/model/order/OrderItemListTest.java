@@ -0,0 +1,91 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalOrderItems.MILO;
+import static seedu.address.testutil.TypicalOrderItems.NASI_GORENG;
+import static seedu.address.testutil.TypicalOrderItems.PRATA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class OrderItemListTest {
+
+    private final OrderItemList orderItemList = new OrderItemList();
+    private final List<ListChangeListener.Change<? extends OrderItem>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        orderItemList.replaceAll(List.of(PRATA, MILO, NASI_GORENG));
+        orderItemList.addListener((ListChangeListener<OrderItem>) changes::add);
+    }
+
+    @Test
+    public void insert_withinChanges_reportedOnceAtEnd() {
+        OrderItem extra = new OrderItem(MILO, MILO.getQuantity() + 1);
+        orderItemList.beginChanges();
+        orderItemList.delete(1);
+        orderItemList.insert(1, extra);
+        orderItemList.delete(0);
+        assertEquals(List.of(extra, NASI_GORENG), orderItemList);
+        assertTrue(changes.isEmpty());
+
+        orderItemList.endChanges();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void replaceAll_sameOrderItems_notReported() {
+        orderItemList.replaceAll(List.of(PRATA.makeCopy(), MILO.makeCopy(), NASI_GORENG.makeCopy()));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void replaceAll_reorderedOrderItems_reportedAsPermutation() {
+        orderItemList.replaceAll(List.of(NASI_GORENG, MILO, PRATA));
+        assertEquals(1, changes.size());
+
+        ListChangeListener.Change<? extends OrderItem> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasPermutated());
+        assertEquals(2, change.getPermutation(0));
+        assertEquals(0, change.getPermutation(2));
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void replaceAll_oneChangedOrderItem_onlyThatOrderItemReported() {
+        OrderItem editedMilo = new OrderItem(MILO, MILO.getQuantity() + 1);
+        orderItemList.replaceAll(List.of(PRATA, editedMilo, NASI_GORENG));
+        assertEquals(1, changes.size());
+
+        ListChangeListener.Change<? extends OrderItem> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasReplaced());
+        assertEquals(1, change.getFrom());
+        assertEquals(2, change.getTo());
+        assertEquals(List.of(MILO), change.getRemoved());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void replaceAll_appendedOrderItem_onlyAdditionReported() {
+        OrderItem extra = new OrderItem("Teh Tarik", 1.5, MILO.getTags(), 1);
+        orderItemList.replaceAll(List.of(PRATA, MILO, NASI_GORENG, extra));
+        assertEquals(1, changes.size());
+
+        ListChangeListener.Change<? extends OrderItem> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasAdded());
+        assertFalse(change.wasRemoved());
+        assertEquals(3, change.getFrom());
+        assertEquals(4, change.getTo());
+        assertFalse(change.next());
+    }
+}
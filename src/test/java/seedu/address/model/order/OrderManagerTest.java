@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrderItems.MILO;
+import static seedu.address.testutil.TypicalOrderItems.NUGGETS;
 import static seedu.address.testutil.TypicalOrderItems.PRATA;
 import static seedu.address.testutil.TypicalOrderItems.VALID_TAG_CLASSIC;
 import static seedu.address.testutil.TypicalOrderItems.getTypicalOrderManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.order.exceptions.DuplicateOrderItemException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.OrderItemBuilder;
 
 public class OrderManagerTest {
@@ -88,4 +92,199 @@ public class OrderManagerTest {
     public void getOrderItemList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> orderManager.getOrderItemList().remove(0));
     }
+
+    @Test
+    public void undoChanges_afterEachKindOfChange_restoresPreviousOrder() throws CommandException {
+        orderManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        orderManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        orderManager.addOrderItem(new OrderItemBuilder(NUGGETS).build());
+        List<OrderItem> afterAdds = List.copyOf(orderManager.getOrderItemList());
+
+        orderManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        orderManager.tagOrderItem(orderManager.getOrderItemList().get(0), new Tag(VALID_TAG_CLASSIC));
+        orderManager.removeOrderItem(new OrderItemBuilder(MILO).withQuantity(100).build());
+        orderManager.setOrder(Collections.singletonList(new OrderItemBuilder(NUGGETS).build()));
+
+        for (int i = 0; i < 4; i++) {
+            orderManager.undoChanges();
+        }
+        assertEquals(afterAdds, orderManager.getOrderItemList());
+        assertEquals(afterAdds.get(1).getQuantity(), orderManager.getQuantity(1));
+        assertEquals(afterAdds.get(0).getTags(), orderManager.getOrderItemList().get(0).getTags());
+        assertEquals(3, orderManager.getOrderHistorySize());
+    }
+
+    @Test
+    public void redoChanges_afterUndo_reappliesChange() throws CommandException {
+        orderManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        orderManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        List<OrderItem> expected = List.copyOf(orderManager.getOrderItemList());
+
+        orderManager.undoChanges();
+        assertFalse(orderManager.hasOrderItem(MILO));
+        assertTrue(orderManager.canRedo());
+
+        orderManager.redoChanges();
+        assertEquals(expected, orderManager.getOrderItemList());
+        assertFalse(orderManager.canRedo());
+    }
+
+    @Test
+    public void addOrderItem_afterUndo_clearsRedo() throws CommandException {
+        orderManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        orderManager.undoChanges();
+        orderManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        assertFalse(orderManager.canRedo());
+    }
+
+    @Test
+    public void addOrderItem_beyondMaxDepth_dropsOldestChanges() throws CommandException {
+        OrderManager limitedManager = new OrderManager(new OrderHistory(2, OrderHistory.DEFAULT_MEMORY_BUDGET));
+        limitedManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        limitedManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        limitedManager.addOrderItem(new OrderItemBuilder(NUGGETS).build());
+        assertEquals(2, limitedManager.getOrderHistorySize());
+
+        limitedManager.undoChanges();
+        limitedManager.undoChanges();
+        assertFalse(limitedManager.canUndo());
+        assertEquals(Collections.singletonList(PRATA), limitedManager.getOrderItemList());
+    }
+
+    @Test
+    public void addOrderItem_beyondMemoryBudget_keepsFootprintWithinBudget() throws CommandException {
+        OrderManager limitedManager = new OrderManager(new OrderHistory(OrderHistory.DEFAULT_MAX_DEPTH, 300));
+        limitedManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        limitedManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        limitedManager.addOrderItem(new OrderItemBuilder(NUGGETS).build());
+        assertTrue(limitedManager.getOrderHistoryFootprint() <= 300);
+        assertTrue(limitedManager.getOrderHistorySize() < 3);
+    }
+
+    @Test
+    public void addOrderItem_changeBeyondMemoryBudget_latestChangeKept() throws CommandException {
+        OrderManager limitedManager = new OrderManager(new OrderHistory(OrderHistory.DEFAULT_MAX_DEPTH, 1));
+        limitedManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        limitedManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        assertEquals(1, limitedManager.getOrderHistorySize());
+
+        limitedManager.undoChanges();
+        assertEquals(Collections.singletonList(PRATA), limitedManager.getOrderItemList());
+    }
+
+    @Test
+    public void resetOrder_clearsHistory() throws CommandException {
+        orderManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        orderManager.resetOrder();
+        assertFalse(orderManager.canUndo());
+        assertEquals(0, orderManager.getOrderHistoryFootprint());
+    }
+
+    @Test
+    public void replay_journalledEntries_restoresOrderAndHistory() throws CommandException {
+        ListJournal journal = new ListJournal(Integer.MAX_VALUE);
+        orderManager.setJournal(journal);
+        orderManager.setVendorIndex(1);
+        orderManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        orderManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        orderManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        orderManager.tagOrderItem(orderManager.getOrderItemList().get(0), new Tag(VALID_TAG_CLASSIC));
+        orderManager.addOrderItem(new OrderItemBuilder(NUGGETS).build());
+        orderManager.undoChanges();
+
+        OrderManager recovered = new OrderManager();
+        recovered.replay(journal.entries);
+        assertSameOrder(orderManager, recovered);
+        assertEquals(1, recovered.getVendorIndex());
+        assertTrue(recovered.canRedo());
+
+        orderManager.undoChanges();
+        recovered.undoChanges();
+        assertSameOrder(orderManager, recovered);
+    }
+
+    @Test
+    public void replay_compactedEntries_restoresOrderAndHistory() throws CommandException {
+        OrderManager limitedManager = new OrderManager(new OrderHistory(2, OrderHistory.DEFAULT_MEMORY_BUDGET));
+        ListJournal journal = new ListJournal(3);
+        limitedManager.setJournal(journal);
+        limitedManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        limitedManager.addOrderItem(new OrderItemBuilder(MILO).build());
+        limitedManager.addOrderItem(new OrderItemBuilder(NUGGETS).build());
+        limitedManager.removeOrderItem(new OrderItemBuilder(PRATA).build());
+        limitedManager.undoChanges();
+        assertTrue(journal.compactions > 0);
+
+        OrderManager recovered = new OrderManager(new OrderHistory(2, OrderHistory.DEFAULT_MEMORY_BUDGET));
+        recovered.replay(journal.entries);
+        assertSameOrder(limitedManager, recovered);
+        assertEquals(limitedManager.getOrderHistorySize(), recovered.getOrderHistorySize());
+        assertTrue(recovered.canRedo());
+
+        recovered.undoChanges();
+        limitedManager.undoChanges();
+        assertSameOrder(limitedManager, recovered);
+        assertFalse(recovered.canUndo());
+    }
+
+    @Test
+    public void resetOrder_withJournal_appendsResetEntry() throws CommandException {
+        ListJournal journal = new ListJournal(Integer.MAX_VALUE);
+        orderManager.setJournal(journal);
+        orderManager.addOrderItem(new OrderItemBuilder(PRATA).build());
+        orderManager.resetOrder();
+        assertEquals(OrderJournalEntry.reset(), journal.entries.get(journal.entries.size() - 1));
+        assertEquals(0, journal.compactions);
+
+        OrderManager recovered = new OrderManager();
+        recovered.replay(journal.entries);
+        assertSameOrder(orderManager, recovered);
+    }
+
+    @Test
+    public void replay_changeNotFittingOrder_throwsIllegalArgumentException() {
+        OrderJournalEntry entry = OrderJournalEntry.change(0, List.of(new OrderItemBuilder(PRATA).build()),
+                List.of());
+        assertThrows(IllegalArgumentException.class, () -> orderManager.replay(List.of(entry)));
+    }
+
+    private static void assertSameOrder(OrderManager expected, OrderManager actual) {
+        assertEquals(expected.getOrderItemList(), actual.getOrderItemList());
+        for (int i = 0; i < expected.getOrderItemList().size(); i++) {
+            assertEquals(expected.getQuantity(i), actual.getQuantity(i));
+            assertEquals(expected.getOrderItemList().get(i).getTags(), actual.getOrderItemList().get(i).getTags());
+        }
+        assertEquals(expected.canUndo(), actual.canUndo());
+        assertEquals(expected.canRedo(), actual.canRedo());
+    }
+
+    /**
+     * A journal that keeps its entries in memory.
+     */
+    private static class ListJournal implements OrderJournal {
+        private final List<OrderJournalEntry> entries = new ArrayList<>();
+        private final int compactionThreshold;
+        private int compactions;
+
+        ListJournal(int compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+        }
+
+        @Override
+        public void append(OrderJournalEntry entry) {
+            entries.add(entry);
+        }
+
+        @Override
+        public boolean needsCompaction() {
+            return entries.size() >= compactionThreshold;
+        }
+
+        @Override
+        public void compact(List<OrderJournalEntry> newEntries) {
+            entries.clear();
+            entries.addAll(newEntries);
+            compactions++;
+        }
+    }
 }
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.order.exceptions.DuplicateOrderItemException;
 import seedu.address.model.order.exceptions.OrderItemNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.OrderItemBuilder;
 
 public class OrderTest {
@@ -61,8 +62,8 @@ public class OrderTest {
     public void add_duplicateOrderItemTotalQuantity_success() {
         int initialQty = PRATA.getQuantity();
         int expectedFinalQty = initialQty * 2;
-        order.add(PRATA);
-        order.add(PRATA);
+        order.add(new OrderItemBuilder(PRATA).build());
+        order.add(new OrderItemBuilder(PRATA).build());
         assertEquals(expectedFinalQty, order.getOrderItem(VALID_NAME_PRATA).getQuantity());
     }
 
@@ -135,6 +136,24 @@ public class OrderTest {
         assertEquals(expectedOrder, order);
     }
 
+    @Test
+    public void remove_middleOrderItem_laterOrderItemsStillFound() {
+        order.add(new OrderItemBuilder(PRATA).build());
+        order.add(new OrderItemBuilder(MILO).build());
+        order.add(new OrderItemBuilder(NUGGETS).build());
+        order.remove(new OrderItemBuilder(PRATA).build());
+        assertFalse(order.contains(PRATA));
+        assertEquals(NUGGETS.getQuantity(), order.getQuantity(NUGGETS));
+        order.remove(new OrderItemBuilder(NUGGETS).build());
+        assertEquals(Collections.singletonList(MILO), order.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getQuantity_orderItemNotInList_returnsZero() {
+        order.add(new OrderItemBuilder(PRATA).build());
+        assertEquals(0, order.getQuantity(MILO));
+    }
+
     @Test
     public void setOrderItems_nullOrder_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> order.setOrderItems((List<OrderItem>) null));
@@ -164,6 +183,8 @@ public class OrderTest {
         Order expectedOrder = new Order();
         expectedOrder.add(MILO);
         assertEquals(expectedOrder, order);
+        assertFalse(order.contains(PRATA));
+        assertTrue(order.contains(MILO));
     }
 
     @Test
@@ -172,6 +193,14 @@ public class OrderTest {
         assertThrows(DuplicateOrderItemException.class, () -> order.setOrderItems(listWithDuplicateOrderItems));
     }
 
+    @Test
+    public void splice_wholeListWithDuplicateOrderItems_throwsDuplicateOrderItemException() {
+        order.add(new OrderItemBuilder(MILO).build());
+        List<OrderItem> listWithDuplicateOrderItems = Arrays.asList(PRATA, PRATA);
+        assertThrows(DuplicateOrderItemException.class, () -> order.splice(0, 1, listWithDuplicateOrderItems));
+        assertEquals(Collections.singletonList(MILO), order.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> order.asUnmodifiableObservableList().remove(0));
@@ -207,6 +236,54 @@ public class OrderTest {
         assertEquals(order, replacementOrder);
     }
 
+    @Test
+    public void getTotalCents_afterChanges_matchesSumOfItems() {
+        order.add(new OrderItemBuilder().withName("Prata").withPrice(1.00).withQuantity(3).build());
+        order.add(new OrderItemBuilder().withName("Milo").withPrice(1.50).withQuantity(2).build());
+        order.add(new OrderItemBuilder().withName("Nuggets").withPrice(3.20).withQuantity(5).build());
+        assertEquals(2200, order.getTotalCents());
+
+        order.remove(new OrderItemBuilder().withName("Nuggets").withPrice(3.20).withQuantity(1).build());
+        assertEquals(1880, order.getTotalCents());
+
+        order.setOrderItem(order.getOrderItem("Milo"),
+                new OrderItemBuilder().withName("Cheese Prata").withPrice(1.60).withQuantity(2).build());
+        assertEquals(1900, order.getTotalCents());
+
+        order.setOrderItems(Collections.singletonList(
+                new OrderItemBuilder().withName("Nasi Goreng").withPrice(4.50).withQuantity(1).build()));
+        assertEquals(450, order.getTotalCents());
+    }
+
+    @Test
+    public void getTotalCents_fractionalPrices_noRoundingDrift() {
+        order.add(new OrderItemBuilder().withName("Sweet").withPrice(0.10).withQuantity(3).build());
+        assertEquals(30, order.getTotalCents());
+        assertEquals(0.3, order.getTotal());
+    }
+
+    @Test
+    public void totalCentsProperty_addOrderItem_updated() {
+        order.add(new OrderItemBuilder().withName("Prata").withPrice(1.00).withQuantity(3).build());
+        assertEquals(300, order.totalCentsProperty().get());
+    }
+
+    @Test
+    public void getTagSubtotalCents_taggedAndUntagged_tracksTags() {
+        order.add(new OrderItemBuilder().withName("Prata").withPrice(1.00).withQuantity(3)
+                .withTags(VALID_TAG_CLASSIC).build());
+        order.add(new OrderItemBuilder().withName("Milo").withPrice(1.50).withQuantity(2).build());
+        Tag classic = new Tag(VALID_TAG_CLASSIC);
+        assertEquals(300, order.getTagSubtotalCents(classic));
+
+        order.tagOrderItem(order.getOrderItem("Milo"), classic);
+        assertEquals(600, order.getTagSubtotalCents(classic));
+
+        order.untagOrderItem(order.getOrderItem(VALID_NAME_PRATA));
+        assertEquals(300, order.getTagSubtotalCents(classic));
+        assertEquals(600, order.getTotalCents());
+    }
+
     @Test
     public void toString_emptyOrder_success() {
         assertEquals(order.toString(), "");
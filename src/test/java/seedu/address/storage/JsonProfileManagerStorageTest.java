@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.profile.Profile;
+import seedu.address.model.vendor.Address;
+import seedu.address.model.vendor.Phone;
+
+public class JsonProfileManagerStorageTest {
+
+    private static final Profile PROFILE = new Profile(new Phone("92030888"), new Address("25 Lower Kent Ridge Rd"));
+    private static final Profile OTHER_PROFILE = new Profile(new Phone("66666666"), new Address("Block 123"));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readProfileManager_fileChangedAfterRead_cachedProfileReturned() throws Exception {
+        Path filePath = testFolder.resolve("profile.json");
+        JsonProfileManagerStorage storage = new JsonProfileManagerStorage(filePath);
+        assertFalse(storage.readProfileManager().isPresent());
+
+        new JsonProfileManagerStorage(filePath).saveProfileManager(PROFILE);
+        assertFalse(storage.readProfileManager().isPresent());
+        assertEquals(PROFILE, new JsonProfileManagerStorage(filePath).readProfileManager().get());
+    }
+
+    @Test
+    public void saveProfileManager_cachedProfile_cacheUpdated() throws Exception {
+        Path filePath = testFolder.resolve("profile.json");
+        JsonProfileManagerStorage storage = new JsonProfileManagerStorage(filePath);
+        storage.saveProfileManager(PROFILE);
+        assertEquals(PROFILE, storage.readProfileManager().get());
+
+        storage.saveProfileManager(OTHER_PROFILE);
+        assertEquals(OTHER_PROFILE, storage.readProfileManager().get());
+        assertEquals(OTHER_PROFILE, new JsonProfileManagerStorage(filePath).readProfileManager().get());
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableVendorManager.MESSAGE_DUPLICATE_VENDOR;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.Assert.assertVendorsEqual;
+import static seedu.address.testutil.TypicalVendors.ALICE;
+import static seedu.address.testutil.TypicalVendors.BENSON;
+import static seedu.address.testutil.TypicalVendors.getTypicalVendorManager;
+import static seedu.address.testutil.TypicalVendors.getTypicalVendors;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.vendor.Email;
+import seedu.address.model.vendor.Name;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.testutil.VendorBuilder;
+
+public class JsonVendorConverterTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void toVendorManager_parallel_keepsFileOrder() throws Exception {
+        JsonVendorConverter<JsonAdaptedVendor> converter = JsonVendorConverter.ofJsonAdaptedVendors(pool);
+        for (Vendor vendor : getTypicalVendors()) {
+            converter.handle(new JsonAdaptedVendor(vendor));
+        }
+        assertVendorsEqual(getTypicalVendorManager(), converter.toVendorManager());
+    }
+
+    @Test
+    public void toVendorManager_sequential_keepsFileOrder() throws Exception {
+        JsonVendorConverter<JsonAdaptedVendor> converter = JsonVendorConverter.ofJsonAdaptedVendors(null);
+        for (Vendor vendor : getTypicalVendors()) {
+            converter.handle(new JsonAdaptedVendor(vendor));
+        }
+        assertVendorsEqual(getTypicalVendorManager(), converter.toVendorManager());
+    }
+
+    @Test
+    public void toVendorManager_severalInvalidVendors_reportsFirstInFileOrder() throws Exception {
+        JsonVendorConverter<JsonAdaptedVendor> converter = JsonVendorConverter.ofJsonAdaptedVendors(pool);
+        converter.handle(new JsonAdaptedVendor(ALICE));
+        converter.handle(withEmail(BENSON, "invalid email"));
+        for (int i = 0; i < 50; i++) {
+            converter.handle(new JsonAdaptedVendor(new VendorBuilder(ALICE).withName("Vendor " + i)
+                    .withPhone("9" + (1000000 + i)).withEmail("vendor" + i + "@example.com").build()));
+        }
+        converter.handle(withName(BENSON, "R@chel"));
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, converter::toVendorManager);
+    }
+
+    @Test
+    public void toVendorManager_duplicateBeforeInvalidVendor_reportsDuplicate() throws Exception {
+        JsonVendorConverter<JsonAdaptedVendor> converter = JsonVendorConverter.ofJsonAdaptedVendors(pool);
+        converter.handle(new JsonAdaptedVendor(ALICE));
+        converter.handle(new JsonAdaptedVendor(new VendorBuilder(ALICE).withPhone("99999999").build()));
+        converter.handle(withName(BENSON, "R@chel"));
+        assertThrows(IllegalValueException.class, MESSAGE_DUPLICATE_VENDOR, converter::toVendorManager);
+    }
+
+    @Test
+    public void toVendorManager_invalidBeforeDuplicateVendor_reportsInvalid() throws Exception {
+        JsonVendorConverter<JsonAdaptedVendor> converter = JsonVendorConverter.ofJsonAdaptedVendors(pool);
+        converter.handle(new JsonAdaptedVendor(ALICE));
+        converter.handle(withName(BENSON, "R@chel"));
+        converter.handle(new JsonAdaptedVendor(ALICE));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, converter::toVendorManager);
+    }
+
+    private static JsonAdaptedVendor withName(Vendor vendor, String name) {
+        return new JsonAdaptedVendor(name, vendor.getPhone().value, vendor.getEmail().value,
+                vendor.getAddress().value, tags(vendor), vendor.getMenu().getMenuItems());
+    }
+
+    private static List<JsonAdaptedTag> tags(Vendor vendor) {
+        return vendor.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList());
+    }
+
+    private static JsonAdaptedVendor withEmail(Vendor vendor, String email) {
+        return new JsonAdaptedVendor(vendor.getName().fullName, vendor.getPhone().value, email,
+                vendor.getAddress().value, tags(vendor), vendor.getMenu().getMenuItems());
+    }
+}
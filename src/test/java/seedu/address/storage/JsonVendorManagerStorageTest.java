@@ -3,7 +3,10 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.Assert.assertVendorsEqual;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -74,23 +77,60 @@ public class JsonVendorManagerStorageTest {
         // Save in new file and read back
         jsonVendorManagerStorage.saveVendorManager(original, filePath);
         ReadOnlyVendorManager readBack = jsonVendorManagerStorage.readVendorManager(filePath).get();
-        assertEquals(original, new VendorManager(readBack));
+        assertVendorsEqual(original, readBack);
 
         // Modify data, overwrite exiting file, and read back
         original.addVendor(TypicalVendors.HOON);
         original.removeVendor(TypicalVendors.ALICE);
         jsonVendorManagerStorage.saveVendorManager(original, filePath);
         readBack = jsonVendorManagerStorage.readVendorManager(filePath).get();
-        assertEquals(original, new VendorManager(readBack));
+        assertVendorsEqual(original, readBack);
 
         // Save and read without specifying file path
         original.addVendor(TypicalVendors.IDA);
         jsonVendorManagerStorage.saveVendorManager(original); // file path not specified
         readBack = jsonVendorManagerStorage.readVendorManager().get(); // file path not specified
-        assertEquals(original, new VendorManager(readBack));
+        assertVendorsEqual(original, readBack);
 
     }
 
+    @Test
+    public void readVendorManager_matchingSnapshot_readsSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempVendorManager.json");
+        Path snapshotPath = JsonVendorManagerStorage.getDefaultSnapshotPath(filePath);
+        VendorManager original = TypicalVendors.getTypicalVendorManager();
+        JsonVendorManagerStorage jsonVendorManagerStorage = new JsonVendorManagerStorage(filePath, snapshotPath,
+                null, StorageWriter.createDirect());
+
+        jsonVendorManagerStorage.saveVendorManager(original);
+        assertEquals(testFolder.resolve("TempVendorManager.snapshot"), snapshotPath);
+        assertVendorsEqual(original, VendorSnapshot.read(snapshotPath, VendorSnapshot.checksumOf(filePath)));
+        assertVendorsEqual(original, jsonVendorManagerStorage.readVendorManager().get());
+    }
+
+    @Test
+    public void readVendorManager_staleOrDamagedSnapshot_readsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempVendorManager.json");
+        Path snapshotPath = JsonVendorManagerStorage.getDefaultSnapshotPath(filePath);
+        VendorManager original = TypicalVendors.getTypicalVendorManager();
+        JsonVendorManagerStorage jsonVendorManagerStorage = new JsonVendorManagerStorage(filePath, snapshotPath,
+                null, StorageWriter.createDirect());
+        jsonVendorManagerStorage.saveVendorManager(original);
+
+        // JSON data file changed without the snapshot
+        original.removeVendor(TypicalVendors.ALICE);
+        new JsonVendorManagerStorage(filePath).saveVendorManager(original);
+        assertVendorsEqual(original, jsonVendorManagerStorage.readVendorManager().get());
+        assertVendorsEqual(original, VendorSnapshot.read(snapshotPath, VendorSnapshot.checksumOf(filePath)));
+
+        // snapshot damaged
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+        snapshot[snapshot.length / 2] ^= 1;
+        Files.write(snapshotPath, snapshot);
+        assertThrows(IOException.class, () -> VendorSnapshot.read(snapshotPath, VendorSnapshot.checksumOf(filePath)));
+        assertVendorsEqual(original, jsonVendorManagerStorage.readVendorManager().get());
+    }
+
     @Test
     public void saveVendorManager_nullVendorManager_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveVendorManager(null, "SomeFile.json"));
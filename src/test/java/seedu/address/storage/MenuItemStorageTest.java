@@ -3,7 +3,7 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -11,7 +11,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.food.MenuItem;
-import seedu.address.model.menu.ReadOnlyMenuManager;
+import seedu.address.model.menu.MenuManager;
 import seedu.address.model.vendor.Vendor;
 import seedu.address.testutil.TypicalVendors;
 
@@ -21,7 +21,7 @@ public class MenuItemStorageTest {
         ObservableList<Vendor> vendors = FXCollections.observableArrayList(TypicalVendors.getTypicalVendors());
         List<ObservableList<MenuItem>> managers = TypicalVendors.getMenus();
         MenuItemStorage storage = new MenuItemStorage();
-        List<Optional<ReadOnlyMenuManager>> expectedManager = storage.readMenuManagers(vendors);
+        List<Supplier<MenuManager>> expectedManager = storage.readMenuManagerSources(vendors);
         List<ObservableList<MenuItem>> expectedMenus = expectedManager.stream().map(x ->
                 x.get().getMenuItemList()).collect(Collectors.toList());
         assertEquals(managers, expectedMenus);
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.OrderItem;
+import seedu.address.model.order.OrderJournalEntry;
+import seedu.address.testutil.OrderItemBuilder;
+import seedu.address.testutil.TestUtil;
+
+public class OrderJournalFileTest {
+
+    private static final Path FILE = TestUtil.getFilePathInSandboxFolder("OrderJournalFileTest/order.journal");
+
+    private final OrderItem prata = new OrderItemBuilder().withTags("classic").build();
+    private final OrderItem milo = new OrderItemBuilder().withName("Milo").withPrice(2.50).withQuantity(3).build();
+
+    private OrderJournalFile journal;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Files.deleteIfExists(FILE);
+        journal = new OrderJournalFile(FILE, 2, 10, null, 0);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    public void read_missingFile_noEntries() throws IOException {
+        assertEquals(List.of(), journal.read());
+    }
+
+    @Test
+    public void append_thenRead_sameEntries() throws IOException {
+        List<OrderJournalEntry> entries = List.of(
+                OrderJournalEntry.vendor(2),
+                OrderJournalEntry.change(0, List.of(), List.of(prata, milo)),
+                OrderJournalEntry.change(1, List.of(milo), List.of()),
+                OrderJournalEntry.undo(),
+                OrderJournalEntry.redo());
+        journal.read();
+        entries.forEach(journal::append);
+        journal.close();
+
+        OrderJournalFile reopened = new OrderJournalFile(FILE, 2, 10, null, 0);
+        List<OrderJournalEntry> readEntries = reopened.read();
+        assertEquals(entries, readEntries);
+        assertEquals(3, readEntries.get(1).getAdded().get(1).getQuantity());
+        assertEquals(prata.getTags(), readEntries.get(1).getAdded().get(0).getTags());
+        reopened.close();
+    }
+
+    @Test
+    public void read_tornLastEntry_dropsAndOverwritesEntry() throws IOException {
+        journal.read();
+        journal.append(OrderJournalEntry.change(0, List.of(), List.of(prata)));
+        journal.close();
+        Files.write(FILE, "{\"type\":\"CHA".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        journal = new OrderJournalFile(FILE, 2, 10, null, 0);
+        assertEquals(1, journal.read().size());
+        journal.append(OrderJournalEntry.undo());
+        journal.close();
+
+        journal = new OrderJournalFile(FILE, 2, 10, null, 0);
+        assertEquals(List.of(OrderJournalEntry.change(0, List.of(), List.of(prata)), OrderJournalEntry.undo()),
+                journal.read());
+    }
+
+    @Test
+    public void compact_replacesEntries() throws IOException {
+        journal.read();
+        for (int i = 0; i < 10; i++) {
+            journal.append(OrderJournalEntry.undo());
+        }
+        assertTrue(journal.needsCompaction());
+
+        journal.compact(List.of(OrderJournalEntry.snapshot(List.of(milo))));
+        assertFalse(journal.needsCompaction());
+        journal.append(OrderJournalEntry.redo());
+        journal.close();
+
+        journal = new OrderJournalFile(FILE, 2, 10, null, 0);
+        assertEquals(List.of(OrderJournalEntry.snapshot(List.of(milo)), OrderJournalEntry.redo()), journal.read());
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.OrderItem;
+import seedu.address.model.preset.Preset;
+import seedu.address.testutil.OrderItemBuilder;
+
+public class PresetRepositoryTest {
+
+    private final PresetManagerStorageStub storage = new PresetManagerStorageStub();
+    private final List<Runnable> pendingWrites = new ArrayList<>();
+    private final PresetRepository repository = new PresetRepository(storage, pendingWrites::add);
+
+    @Test
+    public void getPreset_calledRepeatedly_readsStorageOnce() throws Exception {
+        storage.saved = List.of(List.of(preset("Dinner", 2)));
+
+        assertEquals(Optional.of(preset("Dinner", 2)), repository.getPreset(0, "Dinner"));
+        assertEquals(Optional.empty(), repository.getPreset(0, "Supper"));
+        assertEquals(List.of(), repository.getPresets(3));
+        assertEquals(1, storage.reads);
+    }
+
+    @Test
+    public void putPreset_sameName_replacesAndMovesToEnd() throws Exception {
+        assertFalse(repository.putPreset(0, preset("Dinner", 1)));
+        assertFalse(repository.putPreset(0, preset("Supper", 1)));
+        assertTrue(repository.putPreset(0, preset("Dinner", 3)));
+
+        assertEquals(List.of(preset("Supper", 1), preset("Dinner", 3)), repository.getPresets(0));
+    }
+
+    @Test
+    public void putPreset_orderItemsChangedAfterwards_presetUnchanged() throws Exception {
+        Preset dinner = preset("Dinner", 1);
+        repository.putPreset(0, dinner);
+        dinner.getOrderItems().get(0).setQuantity(5);
+        repository.getPreset(0, "Dinner").get().getOrderItems().get(0).setQuantity(7);
+
+        assertEquals(Optional.of(preset("Dinner", 1)), repository.getPreset(0, "Dinner"));
+    }
+
+    @Test
+    public void putPreset_manyChanges_coalescedIntoOneWrite() throws Exception {
+        repository.putPreset(1, preset("Dinner", 1));
+        repository.putPreset(1, preset("Supper", 1));
+        repository.removePreset(1, "Dinner");
+        assertEquals(1, pendingWrites.size());
+        assertEquals(0, storage.writes);
+
+        pendingWrites.get(0).run();
+        assertEquals(1, storage.writes);
+        assertEquals(List.of(List.of(), List.of(preset("Supper", 1))), storage.saved);
+    }
+
+    @Test
+    public void flush_pendingChanges_writtenOnce() throws Exception {
+        repository.putPreset(0, preset("Dinner", 1));
+        repository.flush();
+        pendingWrites.get(0).run();
+        repository.flush();
+
+        assertEquals(1, storage.writes);
+        assertEquals(List.of(List.of(preset("Dinner", 1))), storage.saved);
+    }
+
+    @Test
+    public void flush_writeFails_changesKept() throws Exception {
+        repository.putPreset(0, preset("Dinner", 1));
+        storage.isFailing = true;
+        assertThrows(IOException.class, repository::flush);
+
+        storage.isFailing = false;
+        repository.flush();
+        assertEquals(List.of(List.of(preset("Dinner", 1))), storage.saved);
+    }
+
+    @Test
+    public void removePreset_missingPreset_returnsFalseWithoutWrite() throws Exception {
+        assertFalse(repository.removePreset(0, "Dinner"));
+        assertTrue(pendingWrites.isEmpty());
+    }
+
+    private static Preset preset(String name, int quantity) {
+        List<OrderItem> orderItems = new ArrayList<>();
+        orderItems.add(new OrderItemBuilder().withName("Prata").withPrice(1.20).withQuantity(quantity).build());
+        return new Preset(name, orderItems);
+    }
+
+    /**
+     * A {@code PresetManagerStorage} that keeps the presets in memory and counts reads and writes.
+     */
+    private static class PresetManagerStorageStub implements PresetManagerStorage {
+        private List<List<Preset>> saved = new ArrayList<>();
+        private int reads;
+        private int writes;
+        private boolean isFailing;
+
+        @Override
+        public Path getPresetManagerFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<List<Preset>>> readPresetManager() {
+            reads++;
+            List<List<Preset>> copy = new ArrayList<>();
+            saved.forEach(presets -> copy.add(new ArrayList<>(presets)));
+            return Optional.of(copy);
+        }
+
+        @Override
+        public Optional<List<List<Preset>>> readPresetManager(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void savePresetManager(List<List<Preset>> allPresets) throws IOException {
+            if (isFailing) {
+                throw new IOException("Disk full");
+            }
+            writes++;
+            saved = allPresets;
+        }
+
+        @Override
+        public void savePresetManager(List<List<Preset>> allPresets, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
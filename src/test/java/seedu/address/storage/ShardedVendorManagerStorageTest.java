@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.Assert.assertVendorsEqual;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.food.MenuItem;
+import seedu.address.model.vendor.ReadOnlyVendorManager;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.vendor.VendorManager;
+import seedu.address.testutil.TypicalVendors;
+
+public class ShardedVendorManagerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path indexPath;
+    private Path singleFilePath;
+    private ShardedVendorManagerStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        indexPath = testFolder.resolve("vendors").resolve(ShardedVendorManagerStorage.DEFAULT_INDEX_FILE_NAME);
+        singleFilePath = testFolder.resolve("vendormanager.json");
+        storage = createStorage();
+    }
+
+    private ShardedVendorManagerStorage createStorage() {
+        StorageWriter storageWriter = StorageWriter.createDirect();
+        return new ShardedVendorManagerStorage(indexPath, new JsonVendorManagerStorage(singleFilePath, storageWriter),
+                storageWriter);
+    }
+
+    private long countShards() throws Exception {
+        try (Stream<Path> files = Files.list(indexPath.getParent())) {
+            return files.filter(file -> !file.equals(indexPath)).count();
+        }
+    }
+
+    @Test
+    public void readVendorManager_noData_emptyResult() throws Exception {
+        assertFalse(storage.readVendorManager().isPresent());
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        VendorManager original = TypicalVendors.getTypicalVendorManager();
+        storage.saveVendorManager(original);
+        assertEquals(original.getVendorList().size(), countShards());
+
+        ReadOnlyVendorManager readBack = createStorage().readVendorManager().get();
+        assertTrue(readBack.getVendorList().stream().noneMatch(Vendor::isMenuLoaded));
+        assertEquals(original, new VendorManager(readBack));
+        assertTrue(readBack.getVendorList().stream().noneMatch(Vendor::isMenuLoaded));
+        assertVendorsEqual(original, readBack);
+    }
+
+    @Test
+    public void saveVendorManager_unchangedMenus_onlyChangedShardRewritten() throws Exception {
+        storage.saveVendorManager(TypicalVendors.getTypicalVendorManager());
+        ShardedVendorManagerStorage readStorage = createStorage();
+        ReadOnlyVendorManager readBack = readStorage.readVendorManager().get();
+        FileTime oldTime = FileTime.fromMillis(0);
+        try (Stream<Path> files = Files.list(indexPath.getParent())) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.setLastModifiedTime(file, oldTime);
+            }
+        }
+
+        Vendor changedVendor = readBack.getVendorList().get(1);
+        changedVendor.getMenu().add(new MenuItem("Roti", 2, new HashSet<>(), ""));
+        readBack.getVendorList().get(2).getMenu();
+        readStorage.saveVendorManager(readBack);
+
+        try (Stream<Path> files = Files.list(indexPath.getParent())) {
+            assertEquals(1, files.filter(file -> !oldTime.equals(getLastModifiedTime(file))).count());
+        }
+        assertVendorsEqual(readBack, createStorage().readVendorManager().get());
+    }
+
+    private static FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void readVendorManager_singleFileOnly_migrated() throws Exception {
+        VendorManager original = TypicalVendors.getTypicalVendorManager();
+        new JsonVendorManagerStorage(singleFilePath).saveVendorManager(original);
+
+        assertVendorsEqual(original, storage.readVendorManager().get());
+        assertTrue(Files.exists(indexPath));
+        assertTrue(Files.exists(singleFilePath));
+        assertVendorsEqual(original, createStorage().readVendorManager().get());
+    }
+
+    @Test
+    public void saveVendorManager_otherPath_singleFileExported() throws Exception {
+        VendorManager original = TypicalVendors.getTypicalVendorManager();
+        storage.saveVendorManager(original);
+        Path exportPath = testFolder.resolve("export.json");
+
+        storage.saveVendorManager(createStorage().readVendorManager().get(), exportPath);
+        assertVendorsEqual(original, new JsonVendorManagerStorage(exportPath).readVendorManager().get());
+        assertVendorsEqual(original, storage.readVendorManager(exportPath).get());
+    }
+
+    @Test
+    public void readVendorManager_removedVendor_shardDeleted() throws Exception {
+        VendorManager original = TypicalVendors.getTypicalVendorManager();
+        storage.saveVendorManager(original);
+        original.removeVendor(TypicalVendors.ALICE);
+        storage.saveVendorManager(original);
+        assertEquals(TypicalVendors.getTypicalVendors().size(), countShards());
+
+        assertVendorsEqual(original, createStorage().readVendorManager().get());
+        assertEquals(original.getVendorList().size(), countShards());
+    }
+
+    @Test
+    public void readVendorManager_fileOutsideDirectory_throwsDataConversionException() throws Exception {
+        storage.saveVendorManager(TypicalVendors.getTypicalVendorManager());
+        String index = Files.readString(indexPath);
+        for (String file : List.of("..", "../outside.menu.json", "notes.txt", indexPath.toAbsolutePath().toString())) {
+            Files.writeString(indexPath, index.replaceFirst("\"file\" : \"[^\"]*\"",
+                    Matcher.quoteReplacement("\"file\" : " + JsonUtil.toJsonString(file))));
+            assertThrows(DataConversionException.class, () -> createStorage().readVendorManager());
+        }
+    }
+
+    @Test
+    public void readVendorManager_duplicateFile_throwsDataConversionException() throws Exception {
+        storage.saveVendorManager(TypicalVendors.getTypicalVendorManager());
+        String index = Files.readString(indexPath);
+        Matcher files = Pattern.compile("\"file\" : \"[^\"]*\"").matcher(index);
+        assertTrue(files.find());
+        String firstFile = files.group();
+        Files.writeString(indexPath, files.replaceAll(Matcher.quoteReplacement(firstFile)));
+        DataConversionException e = Assertions.assertThrows(DataConversionException.class, () ->
+                createStorage().readVendorManager());
+        assertEquals(ShardedVendorManagerStorage.MESSAGE_DUPLICATE_FILE, e.getCause().getMessage());
+    }
+
+    @Test
+    public void readVendorManager_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.saveVendorManager(TypicalVendors.getTypicalVendorManager());
+        Files.writeString(indexPath, Files.readString(indexPath).replaceFirst("\"version\" : 1", "\"version\" : 2"));
+        assertThrows(DataConversionException.class, () -> createStorage().readVendorManager());
+    }
+
+    @Test
+    public void readVendorManager_notJsonIndex_throwsDataConversionException() throws Exception {
+        Files.createDirectories(indexPath.getParent());
+        Files.writeString(indexPath, "not json");
+        assertThrows(DataConversionException.class, () -> storage.readVendorManager());
+    }
+}
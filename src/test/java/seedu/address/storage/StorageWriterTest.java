@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.testutil.TestUtil;
+
+public class StorageWriterTest {
+
+    private static final Path FILE = TestUtil.getFilePathInSandboxFolder("StorageWriterTest/data.json");
+
+    private final StorageWriter asyncWriter = StorageWriter.createAsync(false);
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        asyncWriter.close();
+    }
+
+    @Test
+    public void write_direct_writtenBeforeReturning() throws Exception {
+        StorageWriter.createDirect().write(FILE, bytes("direct"));
+        assertEquals("direct", FileUtil.readFromFile(FILE));
+    }
+
+    @Test
+    public void write_async_writtenByFlush() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            asyncWriter.write(FILE, bytes("save " + i));
+        }
+        asyncWriter.flush();
+        assertEquals("save 99", FileUtil.readFromFile(FILE));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionOnce() throws Exception {
+        FileUtil.writeToFile(FILE, "a file, not a directory");
+        asyncWriter.write(FILE.resolve("child.json"), bytes("unwritable"));
+        assertThrows(IOException.class, asyncWriter::flush);
+        asyncWriter.flush();
+    }
+
+    @Test
+    public void writeAndWait_async_replacesPendingWrite() throws Exception {
+        asyncWriter.write(FILE, bytes("pending"));
+        asyncWriter.writeAndWait(FILE, bytes("waited"));
+        assertEquals("waited", FileUtil.readFromFile(FILE));
+        asyncWriter.flush();
+        assertEquals("waited", FileUtil.readFromFile(FILE));
+    }
+
+    @Test
+    public void writeAndWait_writeFailed_throwsIoException() throws Exception {
+        FileUtil.writeToFile(FILE, "a file, not a directory");
+        Path unwritableFile = FILE.resolve("child.json");
+        assertThrows(IOException.class, () -> asyncWriter.writeAndWait(unwritableFile, bytes("unwritable")));
+        asyncWriter.flush();
+    }
+
+    @Test
+    public void writeAndWait_laterWrite_laterWriteKept() throws Exception {
+        asyncWriter.write(FILE, bytes("pending"));
+        asyncWriter.writeAndWait(FILE, bytes("waited"));
+        asyncWriter.write(FILE, bytes("later"));
+        asyncWriter.flush();
+        assertEquals("later", FileUtil.readFromFile(FILE));
+    }
+
+    @Test
+    public void checkFailure_writeFailed_throwsIoExceptionOnce() throws Exception {
+        FileUtil.writeToFile(FILE, "a file, not a directory");
+        asyncWriter.write(FILE.resolve("child.json"), bytes("unwritable"));
+        asyncWriter.awaitPendingWrites();
+        assertThrows(IOException.class, asyncWriter::checkFailure);
+        asyncWriter.checkFailure();
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
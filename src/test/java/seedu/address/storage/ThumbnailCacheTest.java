@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ThumbnailCacheTest {
+
+    private static final int SIZE = 120;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path sourceFolder;
+    private Path thumbnailFolder;
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        sourceFolder = Files.createDirectories(testFolder.resolve("images"));
+        thumbnailFolder = testFolder.resolve("thumbnails");
+    }
+
+    private ThumbnailCache createCache() {
+        return new ThumbnailCache(thumbnailFolder, SIZE, pendingTasks::add, resourcePath -> {
+            Path source = sourceFolder.resolve(resourcePath);
+            try {
+                return Files.exists(source) ? source.toUri().toURL() : null;
+            } catch (MalformedURLException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeImage(String name, int width, int height, int rgb) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        ImageIO.write(image, "png", sourceFolder.resolve(name).toFile());
+    }
+
+    private void runPendingTasks() {
+        List<Runnable> tasks = new ArrayList<>(pendingTasks);
+        pendingTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void getThumbnail_largeImage_scaledThumbnailMadeInBackground() throws IOException {
+        writeImage("roti.png", 600, 400, 0xff8800);
+        ThumbnailCache cache = createCache();
+
+        assertFalse(cache.getThumbnail("roti.png").isPresent());
+        runPendingTasks();
+        Path thumbnail = cache.getThumbnail("roti.png").get();
+        assertTrue(pendingTasks.isEmpty());
+
+        BufferedImage image = ImageIO.read(thumbnail.toFile());
+        assertEquals(SIZE, image.getWidth());
+        assertEquals(80, image.getHeight());
+        assertEquals(0xff8800, image.getRGB(SIZE / 2, 40) & 0xffffff);
+    }
+
+    @Test
+    public void warmUp_thumbnailsOfEarlierRun_reusedOrRemade() throws IOException {
+        writeImage("roti.png", 600, 400, 0xff8800);
+        writeImage("prata.png", 300, 300, 0x0088ff);
+        ThumbnailCache firstRun = createCache();
+        firstRun.getThumbnail("roti.png");
+        firstRun.getThumbnail("prata.png");
+        runPendingTasks();
+        Path rotiThumbnail = firstRun.getThumbnail("roti.png").get();
+        Path prataThumbnail = firstRun.getThumbnail("prata.png").get();
+
+        // prata.png changed between runs
+        writeImage("prata.png", 300, 300, 0x00ff00);
+        ThumbnailCache secondRun = createCache();
+        secondRun.warmUp();
+        assertTrue(pendingTasks.isEmpty());
+        assertEquals(rotiThumbnail, secondRun.getThumbnail("roti.png").get());
+        Path newPrataThumbnail = secondRun.getThumbnail("prata.png").get();
+        assertNotEquals(prataThumbnail, newPrataThumbnail);
+        assertFalse(Files.exists(prataThumbnail));
+        assertEquals(0x00ff00, ImageIO.read(newPrataThumbnail.toFile()).getRGB(0, 0) & 0xffffff);
+    }
+
+    @Test
+    public void makeThumbnail_missingImage_throwsIoException() {
+        assertThrows(IOException.class, () -> createCache().makeThumbnail("missing.png"));
+        ThumbnailCache cache = createCache();
+        assertFalse(cache.getThumbnail("missing.png").isPresent());
+        runPendingTasks();
+        assertFalse(cache.getThumbnail("missing.png").isPresent());
+        assertTrue(pendingTasks.isEmpty());
+    }
+}
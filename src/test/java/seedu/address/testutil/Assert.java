@@ -3,6 +3,8 @@ package seedu.address.testutil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.Executable;
 
+import seedu.address.model.vendor.ReadOnlyVendorManager;
+
 /**
  * A set of assertion methods useful for writing tests.
  */
@@ -31,4 +33,16 @@ public class Assert {
         Throwable thrownException = Assertions.assertThrows(expectedType, executable);
         Assertions.assertEquals(expectedMessage, thrownException.getMessage());
     }
+
+    /**
+     * Asserts that {@code actual} holds vendors equal to those of {@code expected}, in the same order, and with
+     * equal menus, which {@code Vendor#equals} does not compare.
+     */
+    public static void assertVendorsEqual(ReadOnlyVendorManager expected, ReadOnlyVendorManager actual) {
+        Assertions.assertEquals(expected.getVendorList(), actual.getVendorList());
+        for (int i = 0; i < expected.getVendorList().size(); i++) {
+            Assertions.assertEquals(expected.getVendorList().get(i).getMenu(),
+                    actual.getVendorList().get(i).getMenu());
+        }
+    }
 }
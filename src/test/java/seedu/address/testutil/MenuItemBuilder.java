@@ -37,7 +37,7 @@ public class MenuItemBuilder {
      */
     public MenuItemBuilder(MenuItem itemToCopy) {
         name = itemToCopy.getName();
-        price = itemToCopy.getPrice();
+        price = itemToCopy.getPrice().toDouble();
         tags = new HashSet<>(itemToCopy.getTags());
         filePath = itemToCopy.getFilePath();
     }
@@ -38,7 +38,7 @@ public class OrderItemBuilder {
      */
     public OrderItemBuilder(OrderItem orderItemToCopy) {
         name = orderItemToCopy.getName();
-        price = orderItemToCopy.getPrice();
+        price = orderItemToCopy.getPrice().toDouble();
         quantity = orderItemToCopy.getQuantity();
         tags = new HashSet<>(orderItemToCopy.getTags());
     }